@@ -1,11 +1,18 @@
 import axios, { AxiosError } from "axios";
-import { Recipe, CustomResponse } from "../types/Recipe";
+import {
+  Recipe,
+  RecipeBatch,
+  SearchPage,
+  CustomResponse,
+} from "../types/Recipe";
 
 const API_BASE_URL =
   process.env.REACT_APP_API_BASE_URL || "http://localhost:8080/api";
 const REQUEST_TIMEOUT =
   parseInt(process.env.REACT_APP_REQUEST_TIMEOUT || "10000") || 10000;
 
+const SEARCH_PAGE_SIZE = 100;
+
 const api = axios.create({
   baseURL: API_BASE_URL,
   timeout: REQUEST_TIMEOUT,
@@ -43,9 +50,13 @@ export const recipeService = {
   },
 
   searchRecipes: async (query: string): Promise<Recipe[]> => {
-    return handleApiCall(() =>
-      api.post<CustomResponse<Recipe[]>>("/recipes/search", { query })
+    const page = await handleApiCall(() =>
+      api.post<CustomResponse<SearchPage<Recipe>>>("/recipes/search", {
+        query,
+        size: SEARCH_PAGE_SIZE,
+      })
     );
+    return page.hits;
   },
 
   getRecipeById: async (id: number): Promise<Recipe> => {
@@ -54,6 +65,12 @@ export const recipeService = {
     );
   },
 
+  getRecipesByIds: async (ids: number[]): Promise<RecipeBatch> => {
+    return handleApiCall(() =>
+      api.post<CustomResponse<RecipeBatch>>("/recipes/batch", { ids })
+    );
+  },
+
   getAllRecipes: async (): Promise<Recipe[]> => {
     return handleApiCall(() => api.get<CustomResponse<Recipe[]>>("/recipes"));
   },
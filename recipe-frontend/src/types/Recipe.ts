@@ -9,6 +9,20 @@ export interface Recipe {
   image: string;
 }
 
+export interface RecipeBatch {
+  recipes: Recipe[];
+  missingIds: number[];
+}
+
+export interface SearchPage<T> {
+  hits: T[];
+  offset: number;
+  size: number;
+  totalHits: number;
+  totalHitsExact: boolean;
+  hasMore: boolean;
+}
+
 export interface CustomResponse<T> {
   status: number;
   message: string;
@@ -0,0 +1,64 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.recipes.recipes_backend.RecipesBackendApplication;
+import com.recipes.recipes_backend.dto.response.SyncReport;
+import com.recipes.recipes_backend.event.RecipesSyncedEvent;
+import com.recipes.recipes_backend.service.RecipeBatchWriter;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application without a web server on a private in-memory database and index directory,
+ * and fills it with a synthetic catalog of the requested size.
+ */
+final class BenchmarkApplication {
+
+    private static final int WRITE_CHUNK = 1_000;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(int catalogSize, String... properties) {
+        String[] defaults = {
+                "spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID(),
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN",
+                // The test configuration keeps the index on the heap; benchmarks measure the mmap index
+                "spring.jpa.properties.hibernate.search.backend.directory.type=local-filesystem",
+                "recipes.search.index-dir=" + tempIndexDir()};
+        // Passed as command line arguments: default properties would lose to application.properties
+        String[] args = Stream.concat(Arrays.stream(defaults), Arrays.stream(properties))
+                .map(property -> "--" + property)
+                .toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RecipesBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args);
+
+        RecipeBatchWriter writer = context.getBean(RecipeBatchWriter.class);
+        for (int from = 0; from < catalogSize; from += WRITE_CHUNK) {
+            writer.writeAll(SyntheticRecipes.recipes(from, Math.min(WRITE_CHUNK, catalogSize - from)));
+        }
+        // In-memory indexes rebuild when a sync finishes; the synthetic load stands in for one
+        context.publishEvent(new RecipesSyncedEvent(new SyncReport(catalogSize, catalogSize, 0, 0, 0, true, null)));
+        return context;
+    }
+
+    private static Path tempIndexDir() {
+        try {
+            return Files.createTempDirectory("recipes-jmh-index");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Entry point of {@code mvn verify -Pjmh}. Runs JMH with the given command line options and records the
+ * results of each benchmark class in {@code benchmarks/<class>.json}. Only the files of classes that ran
+ * are rewritten, so re-running one benchmark after changing it keeps the others' recorded results, and
+ * {@code git log} on a file shows how that benchmark moved from commit to commit.
+ */
+public final class BenchmarkRunner {
+
+    private static final Path RESULTS_DIR = Path.of("benchmarks");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path combined = Files.createTempFile("jmh-result", ".json");
+        try {
+            Options options = new OptionsBuilder()
+                    .parent(new CommandLineOptions(args))
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(combined.toString())
+                    .build();
+            new Runner(options).run();
+            record(combined);
+        } finally {
+            Files.deleteIfExists(combined);
+        }
+    }
+
+    private static void record(Path combined) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, ArrayNode> resultsByClass = new TreeMap<>();
+        for (JsonNode result : mapper.readTree(combined.toFile())) {
+            String benchmark = result.get("benchmark").asText();
+            String className = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1,
+                    benchmark.lastIndexOf('.'));
+            resultsByClass.computeIfAbsent(className, name -> mapper.createArrayNode()).add(result);
+        }
+
+        Files.createDirectories(RESULTS_DIR);
+        for (Map.Entry<String, ArrayNode> results : resultsByClass.entrySet()) {
+            Path file = RESULTS_DIR.resolve(results.getKey() + ".json");
+            mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), results.getValue());
+            System.out.println("Recorded " + results.getValue().size() + " results in " + file);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.mapper.RecipeMapper;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * DTO to entity mapping of one ingestion page: the reflective ModelMapper the ingestion service used to
+ * rely on, against the hand-written {@link RecipeMapper} it uses now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngestionMappingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ModelMapper modelMapper;
+    private RecipeMapper recipeMapper;
+    private List<ExternalRecipeDto> page;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        recipeMapper = new RecipeMapper();
+        page = IntStream.range(0, PAGE_SIZE)
+                .mapToObj(SyntheticRecipes::externalRecipe)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Recipe> modelMapperPage() {
+        return page.stream()
+                .map(dto -> {
+                    Recipe recipe = modelMapper.map(dto, Recipe.class);
+                    recipe.setId(null);
+                    return recipe;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<Recipe> recipeMapperPage() {
+        return page.stream()
+                .map(recipeMapper::toEntity)
+                .toList();
+    }
+}
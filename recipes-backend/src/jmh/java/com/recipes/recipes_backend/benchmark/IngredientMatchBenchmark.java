@@ -0,0 +1,57 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.PantryMatch;
+import com.recipes.recipes_backend.service.IngredientMatchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IngredientMatchService} latency across catalog sizes for pantries of one to five ingredients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IngredientMatchBenchmark {
+
+    private static final List<List<String>> PANTRIES = List.of(
+            List.of("garlic"),
+            List.of("onion", "tomato"),
+            List.of("chicken", "rice", "cumin"),
+            List.of("olive oil", "basil", "parmesan", "butter"),
+            List.of("soy sauce", "lime", "coconut milk", "chili", "garlic"));
+
+    @Param({"1000", "10000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private IngredientMatchService ingredientMatchService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(catalogSize);
+        ingredientMatchService = context.getBean(IngredientMatchService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void nextPantry() {
+        next = (next + 1) % PANTRIES.size();
+    }
+
+    @Benchmark
+    public CustomResponse<List<PantryMatch>> match() {
+        return ingredientMatchService.match(PANTRIES.get(next), 20);
+    }
+}
@@ -0,0 +1,70 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.service.RecipeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RecipeService} reads: single-recipe lookups with the by-id cache cold and warm, and the full
+ * catalog read across catalog sizes, from the database or from the catalog snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    private int catalogSize;
+
+    @Param({"false", "true"})
+    private boolean snapshot;
+
+    private ConfigurableApplicationContext context;
+    private RecipeService recipeService;
+    private CacheManager cacheManager;
+    private long[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(catalogSize, "recipes.snapshot.enabled=" + snapshot);
+        recipeService = context.getBean(RecipeService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        ids = recipeService.findAll().getData().stream()
+                .mapToLong(Recipe::getId)
+                .toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomResponse<Recipe> findByIdColdCache() {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.RECIPE_BY_ID)).clear();
+        next = (next + 1) % ids.length;
+        return recipeService.findById(ids[next]);
+    }
+
+    @Benchmark
+    public CustomResponse<Recipe> findByIdWarmCache() {
+        return recipeService.findById(ids[0]);
+    }
+
+    @Benchmark
+    public CustomResponse<List<Recipe>> findAll() {
+        return recipeService.findAll();
+    }
+}
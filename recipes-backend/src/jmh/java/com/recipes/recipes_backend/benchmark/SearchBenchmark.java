@@ -0,0 +1,75 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.service.SearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SearchService} latency across catalog sizes, with the search result cache cold (every call
+ * runs the Lucene query) and warm (only entity hydration runs).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String[] QUERIES = {"curry", "ital", "smoky", "dumplings", "moroc"};
+
+    @Param({"1000", "10000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private SearchService searchService;
+    private CacheManager cacheManager;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(catalogSize);
+        searchService = context.getBean(SearchService.class);
+        cacheManager = context.getBean(CacheManager.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void nextQuery() {
+        next = (next + 1) % QUERIES.length;
+    }
+
+    @Benchmark
+    public SearchPage<Recipe> searchColdCache() {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.SEARCH_RESULTS)).clear();
+        return searchService.searchRecipes(request());
+    }
+
+    @Benchmark
+    public SearchPage<Recipe> searchWarmCache() {
+        return searchService.searchRecipes(request());
+    }
+
+    @Benchmark
+    public SearchPage<RecipeSummary> searchSummariesColdCache() {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.SEARCH_RESULTS)).clear();
+        return searchService.searchRecipeSummaries(request());
+    }
+
+    private RecipeSearchRequest request() {
+        return RecipeSearchRequest.builder().query(QUERIES[next]).build();
+    }
+}
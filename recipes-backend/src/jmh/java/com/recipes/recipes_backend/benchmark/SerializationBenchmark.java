@@ -0,0 +1,45 @@
+package com.recipes.recipes_backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a recipe list response, configured like the application's object mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int recipeCount;
+
+    private ObjectMapper objectMapper;
+    private CustomResponse<List<Recipe>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Recipe> recipes = SyntheticRecipes.recipes(recipeCount);
+        for (int i = 0; i < recipes.size(); i++) {
+            recipes.get(i).setId((long) i + 1);
+        }
+        response = CustomResponse.success(recipes, "All recipes retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] serializeRecipeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
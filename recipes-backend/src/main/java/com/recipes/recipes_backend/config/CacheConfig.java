@@ -1,19 +1,51 @@
 package com.recipes.recipes_backend.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(RecipeCacheProperties.class)
 public class CacheConfig {
 
+    public static final String RECIPE_BY_ID = "recipeById";
+    public static final String EXTERNAL_RECIPES = "externalRecipes";
+    public static final String SEARCH_RESULTS = "searchResults";
+    public static final String RECIPE_PAYLOADS = "recipePayloads";
+
+    /**
+     * One bounded Caffeine cache per use, each recording statistics so hit, miss and eviction counts are
+     * exported through the actuator metrics endpoint. The external catalog cache is asynchronous so the
+     * {@code CompletableFuture} returned by the client is cached by its completed value; the others are
+     * synchronous so value loaders run on the calling thread, inside its transaction.
+     */
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("recipes");
+    public CacheManager cacheManager(RecipeCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(RECIPE_BY_ID, caffeine(properties.getRecipeById()).build());
+        cacheManager.registerCustomCache(EXTERNAL_RECIPES, caffeine(properties.getExternalRecipes()).buildAsync());
+        cacheManager.registerCustomCache(SEARCH_RESULTS, caffeine(properties.getSearchResults()).build());
+        cacheManager.registerCustomCache(RECIPE_PAYLOADS, caffeine(properties.getRecipePayloads()).build());
         return cacheManager;
     }
+
+    private static Caffeine<Object, Object> caffeine(RecipeCacheProperties.CacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight().toBytes())
+                    .weigher(new PayloadSizeWeigher());
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        return builder;
+    }
 }
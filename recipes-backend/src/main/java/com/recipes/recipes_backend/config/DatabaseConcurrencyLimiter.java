@@ -0,0 +1,68 @@
+package com.recipes.recipes_backend.config;
+
+import com.recipes.recipes_backend.exception.ServiceBusyException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the number of database-bound requests handled at once. With virtual threads request
+ * concurrency is effectively unbounded, so without this cap excess requests would all queue inside
+ * Hikari and fail with a connection timeout; here they wait briefly for a permit and are otherwise
+ * rejected with 503 before touching the pool.
+ */
+public class DatabaseConcurrencyLimiter implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = DatabaseConcurrencyLimiter.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public DatabaseConcurrencyLimiter(int maxConcurrentRequests, Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceBusyException("Server is busy, please retry shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for a database slot");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Async handlers (NDJSON streaming) give the permit back when the request thread is released; each
+     * chunk then borrows its own connection.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+}
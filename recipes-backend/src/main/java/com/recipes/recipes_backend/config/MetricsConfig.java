@@ -0,0 +1,31 @@
+package com.recipes.recipes_backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(SqlStatementCounter sqlStatementCounter,
+                                                                                       MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(sqlStatementCounter, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,112 @@
+package com.recipes.recipes_backend.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.ExternalRecipeResponse;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.dto.response.RecipePayload;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
+import com.recipes.recipes_backend.entity.Recipe;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap size of cached recipe payloads in bytes, so caches can be bounded by
+ * memory rather than by entry count. Estimates assume compressed oops and Latin-1 compact strings.
+ */
+public class PayloadSizeWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int LIST_OVERHEAD = 40;
+    private static final int BOXED_NUMBER = 16;
+    private static final int ARRAY_OVERHEAD = 16;
+    private static final int MAP_ENTRY = 40;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, estimate(value)));
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CustomResponse<?> response) {
+            return OBJECT_HEADER + 5L * REFERENCE + 8 + estimate(response.getMessage()) + estimate(response.getData());
+        }
+        if (value instanceof Recipe recipe) {
+            return OBJECT_HEADER + 8L * REFERENCE + BOXED_NUMBER * 2L
+                    + estimate(recipe.getName())
+                    + estimate(recipe.getCuisine())
+                    + estimate(recipe.getImage())
+                    + references(recipe.getIngredients())
+                    + estimate(recipe.getInstructions())
+                    + references(recipe.getTags());
+        }
+        if (value instanceof RecipeSummary summary) {
+            return OBJECT_HEADER + 5L * REFERENCE + BOXED_NUMBER * 2L
+                    + estimate(summary.name())
+                    + estimate(summary.cuisine())
+                    + estimate(summary.image());
+        }
+        if (value instanceof SearchPage<?> page) {
+            return OBJECT_HEADER + REFERENCE + 8L + 8 + 2 + estimate(page.getHits());
+        }
+        if (value instanceof FacetedSearchResult result) {
+            return OBJECT_HEADER + 4L * REFERENCE + 8
+                    + estimate(result.hits())
+                    + estimate(result.cuisines())
+                    + estimate(result.tags())
+                    + estimate(result.cookTimes());
+        }
+        if (value instanceof RecipePayload payload) {
+            return OBJECT_HEADER + 3L * REFERENCE
+                    + estimate(payload.etag())
+                    + ARRAY_OVERHEAD + payload.json().length
+                    + (payload.gzip() == null ? 0 : ARRAY_OVERHEAD + payload.gzip().length);
+        }
+        if (value instanceof ExternalRecipeResponse response) {
+            return OBJECT_HEADER + REFERENCE + 12 + estimate(response.getRecipes());
+        }
+        if (value instanceof ExternalRecipeDto dto) {
+            return OBJECT_HEADER + 8L * REFERENCE + BOXED_NUMBER * 2L
+                    + estimate(dto.getName())
+                    + estimate(dto.getCuisine())
+                    + estimate(dto.getImage())
+                    + estimate(dto.getIngredients())
+                    + estimate(dto.getInstructions())
+                    + estimate(dto.getTags());
+        }
+        if (value instanceof String string) {
+            return STRING_OVERHEAD + string.length();
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = LIST_OVERHEAD + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                size += estimate(element);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = LIST_OVERHEAD + (long) map.size() * MAP_ENTRY;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey()) + BOXED_NUMBER;
+            }
+            return size;
+        }
+        return OBJECT_HEADER;
+    }
+
+    /**
+     * A list of dictionary values: recipe tags and ingredients are shared instances owned by the
+     * dictionary, so a cached recipe only retains the list and its references.
+     */
+    private static long references(Collection<?> collection) {
+        return collection == null ? 0 : LIST_OVERHEAD + (long) collection.size() * REFERENCE;
+    }
+}
@@ -0,0 +1,53 @@
+package com.recipes.recipes_backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.recipes_backend.controller.ReactiveRecipeHandler;
+import com.recipes.recipes_backend.repository.ReactiveRecipeReader;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+@Configuration
+@ConditionalOnProperty(prefix = "recipes.reactive", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+public class ReactiveReadConfig {
+
+    @Bean
+    public ReactiveRecipeReader reactiveRecipeReader(ReactiveReadProperties properties) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getR2dbcUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        return new ReactiveRecipeReader(options.build(), properties.getMaxPoolSize(), properties.getChunkSize());
+    }
+
+    @Bean
+    public ReactiveRecipeHandler reactiveRecipeHandler(ReactiveRecipeReader reactiveRecipeReader) {
+        return new ReactiveRecipeHandler(reactiveRecipeReader);
+    }
+
+    /**
+     * Serves the handler routes with the application's object mapper, so JSON matches the MVC endpoints.
+     */
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveRecipeHandler reactiveRecipeHandler, ObjectMapper objectMapper,
+                                                 ReactiveReadProperties properties) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(reactiveRecipeHandler.routes(), strategies),
+                properties.getPort());
+    }
+}
@@ -0,0 +1,32 @@
+package com.recipes.recipes_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "recipes.reactive")
+public class ReactiveReadProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Port of the Reactor Netty server hosting the reactive read API, separate from the servlet port.
+     */
+    private int port = 8081;
+
+    /**
+     * R2DBC URL of the database the JPA side writes to.
+     */
+    private String r2dbcUrl = "r2dbc:h2:mem:///recipedb";
+
+    private String username;
+
+    private String password;
+
+    private int maxPoolSize = 20;
+
+    /**
+     * Number of recipes read per keyset chunk when streaming the catalog.
+     */
+    private int chunkSize = 100;
+}
@@ -0,0 +1,49 @@
+package com.recipes.recipes_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty server for the reactive read API, started and stopped with the application context
+ * next to the servlet container.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read API listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -0,0 +1,55 @@
+package com.recipes.recipes_backend.config;
+
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.ngram.EdgeNGramFilterFactory;
+import org.apache.lucene.analysis.ngram.NGramFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurationContext;
+import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
+
+/**
+ * Analyzers for recipe search. Prefix and substring matching are resolved at index time by storing
+ * edge n-grams and n-grams of every token, so a query term becomes a single term lookup instead of a
+ * leading-wildcard scan over the whole term dictionary.
+ */
+public class RecipeAnalysisConfigurer implements LuceneAnalysisConfigurer {
+
+    public static final String EDGE_NGRAM = "recipe_edge_ngram";
+    public static final String NGRAM = "recipe_ngram";
+    public static final String SEARCH = "recipe_search";
+    public static final String SORT = "recipe_sort";
+
+    private static final String MAX_GRAM_SIZE = "20";
+
+    @Override
+    public void configure(LuceneAnalysisConfigurationContext context) {
+        context.analyzer(EDGE_NGRAM).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(EdgeNGramFilterFactory.class)
+                .param("minGramSize", "2")
+                .param("maxGramSize", MAX_GRAM_SIZE)
+                .param("preserveOriginal", "true");
+
+        context.analyzer(NGRAM).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class)
+                .tokenFilter(NGramFilterFactory.class)
+                .param("minGramSize", "3")
+                .param("maxGramSize", MAX_GRAM_SIZE)
+                .param("preserveOriginal", "true");
+
+        context.analyzer(SEARCH).custom()
+                .tokenizer(StandardTokenizerFactory.class)
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+
+        // Sort keys: the whole value, case and accents folded so "éclair" sorts next to "eclair"
+        context.normalizer(SORT).custom()
+                .tokenFilter(LowerCaseFilterFactory.class)
+                .tokenFilter(ASCIIFoldingFilterFactory.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.recipes.recipes_backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "recipes.cache")
+public class RecipeCacheProperties {
+
+    private CacheSpec recipeById = new CacheSpec();
+    private CacheSpec externalRecipes = new CacheSpec();
+    private CacheSpec searchResults = new CacheSpec();
+    private CacheSpec recipePayloads = new CacheSpec();
+
+    @Data
+    public static class CacheSpec {
+        /**
+         * Upper bound on the estimated size of all entries. Takes precedence over maximumSize.
+         */
+        private DataSize maximumWeight;
+        private Long maximumSize;
+        private Duration expireAfterWrite;
+    }
+}
@@ -0,0 +1,13 @@
+package com.recipes.recipes_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} jobs such as the periodic external catalog sync
+ * ({@code recipes.sync.cron}, {@code -} disables it).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,26 @@
+package com.recipes.recipes_backend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. Registered as the session
+ * factory's statement inspector; the request metrics filter resets and reads it around each request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        count.get()[0] = 0;
+    }
+
+    public int current() {
+        return count.get()[0];
+    }
+}
@@ -0,0 +1,44 @@
+package com.recipes.recipes_backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran, tagged like {@code http.server.requests} with the
+ * method and matched URI template. Work done after an async handover (NDJSON streaming) is not counted.
+ */
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String METRIC = "recipes.http.sql.statements";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC)
+                    .description("SQL statements executed per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(sqlStatementCounter.current());
+        }
+    }
+}
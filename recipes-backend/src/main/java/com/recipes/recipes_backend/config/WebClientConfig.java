@@ -1,5 +1,6 @@
 package com.recipes.recipes_backend.config;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -8,7 +9,8 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class WebClientConfig {
 
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(ObservationRegistry observationRegistry) {
+        // Observed exchanges are recorded as http.client.requests timers
+        return WebClient.builder().observationRegistry(observationRegistry);
     }
 }
@@ -0,0 +1,28 @@
+package com.recipes.recipes_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Value("${recipes.concurrency.max-db-requests:20}")
+    private int maxDbRequests;
+
+    @Value("${recipes.concurrency.acquire-timeout:5s}")
+    private Duration acquireTimeout;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Autocomplete, pantry matching, summary and faceted search are served from memory and the index,
+        // and sync jobs run on their own thread, so none of them are limited
+        registry.addInterceptor(new DatabaseConcurrencyLimiter(maxDbRequests, acquireTimeout))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/recipes/suggest", "/api/recipes/what-can-i-cook", "/api/recipes/search/summaries",
+                        "/api/recipes/search/facets", "/api/recipes/load", "/api/recipes/load/*");
+    }
+}
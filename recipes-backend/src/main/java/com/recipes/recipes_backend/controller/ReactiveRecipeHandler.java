@@ -0,0 +1,71 @@
+package com.recipes.recipes_backend.controller;
+
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.repository.ReactiveRecipeReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterparts of the read endpoints in {@link RecipeController}, served by the Reactor Netty
+ * server on {@code recipes.reactive.port}. Requests are handled on the event loop from routing to
+ * serialization.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRecipeHandler {
+
+    private final ReactiveRecipeReader reactiveRecipeReader;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/recipes/{id}", this::getRecipeById)
+                .GET("/api/recipes", this::getAllRecipes)
+                .build();
+    }
+
+    /**
+     * Stream all recipes as a JSON array, or as newline-delimited JSON when the client accepts
+     * {@code application/x-ndjson}. Rows are read as the client consumes them.
+     */
+    Mono<ServerResponse> getAllRecipes(ServerRequest request) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok()
+                .contentType(contentType)
+                .body(reactiveRecipeReader.findAll(), Recipe.class);
+    }
+
+    Mono<ServerResponse> getRecipeById(ServerRequest request) {
+        long id;
+        try {
+            id = Long.parseLong(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            id = 0;
+        }
+        if (id < 1) {
+            return error(HttpStatus.BAD_REQUEST, "Recipe ID must be positive");
+        }
+
+        long recipeId = id;
+        return reactiveRecipeReader.findById(recipeId)
+                .flatMap(recipe -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(CustomResponse.success(recipe, "Recipe retrieved successfully")))
+                .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND, "Recipe not found with id: " + recipeId)));
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(CustomResponse.error(status.value(), message));
+    }
+}
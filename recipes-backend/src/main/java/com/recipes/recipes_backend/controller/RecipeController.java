@@ -1,9 +1,26 @@
 package com.recipes.recipes_backend.controller;
 
+import com.recipes.recipes_backend.dto.request.PantryRequest;
+import com.recipes.recipes_backend.dto.request.RecipeBatchRequest;
+import com.recipes.recipes_backend.dto.request.RecipeFacetSearchRequest;
 import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
 import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.dto.response.PantryMatch;
+import com.recipes.recipes_backend.dto.response.RecipeBatch;
+import com.recipes.recipes_backend.dto.response.RecipePage;
+import com.recipes.recipes_backend.dto.response.RecipePayload;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
+import com.recipes.recipes_backend.dto.response.Suggestion;
+import com.recipes.recipes_backend.dto.response.SyncJobStatus;
 import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.service.IngredientMatchService;
+import com.recipes.recipes_backend.service.RecipePayloadService;
 import com.recipes.recipes_backend.service.RecipeService;
+import com.recipes.recipes_backend.service.RecipeStreamService;
+import com.recipes.recipes_backend.service.SuggestionService;
+import com.recipes.recipes_backend.service.SyncJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,14 +29,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -32,62 +56,228 @@ import java.util.List;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final RecipeStreamService recipeStreamService;
+    private final SuggestionService suggestionService;
+    private final RecipePayloadService recipePayloadService;
+    private final SyncJobService syncJobService;
+    private final IngredientMatchService ingredientMatchService;
 
     /**
-     * Load recipes from external API
+     * Start syncing recipes from the external API as a background job
      *
-     * @return ResponseEntity<CustomResponse<String>>
+     * @return ResponseEntity<CustomResponse<SyncJobStatus>>
      */
     @PostMapping("/load")
-    @Operation(summary = "Load recipes from external API", description = "Loads all recipes from the external DummyJSON API into the local H2 database and indexes them for search")
+    @Operation(summary = "Load recipes from external API", description = "Starts a background job that syncs the local H2 database and search index with the external DummyJSON API: new and changed recipes are written, recipes removed upstream are deleted. Only one sync runs at a time; while one is running its status is returned")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Recipe loading initiated successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
-            @ApiResponse(responseCode = "500", description = "Internal server error - failed to connect to external API", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+            @ApiResponse(responseCode = "202", description = "Recipe sync started or already running", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
     })
-    public ResponseEntity<CustomResponse<String>> loadRecipes() {
+    public ResponseEntity<CustomResponse<SyncJobStatus>> loadRecipes() {
         log.info("Entered loadRecipes controller");
-        return ResponseEntity.ok(recipeService.loadRecipesFromExternalApi());
+        CustomResponse<SyncJobStatus> response = syncJobService.start();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/recipes/load/" + response.getData().getJobId()))
+                .body(response);
+    }
+
+    /**
+     * Get the progress of a recipe sync job
+     *
+     * @param jobId Sync job ID
+     * @return ResponseEntity<CustomResponse<SyncJobStatus>>
+     */
+    @GetMapping("/load/{jobId}")
+    @Operation(summary = "Get recipe sync status", description = "Poll the state and progress (pages fetched, recipes written, documents indexed, elapsed time) of a sync job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sync job status retrieved successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not found - unknown or expired sync job", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<SyncJobStatus>> getLoadStatus(
+            @Parameter(description = "Sync job ID returned by POST /load", required = true)
+            @PathVariable String jobId) {
+        log.debug("Entered getLoadStatus controller with jobId: {}", jobId);
+        return ResponseEntity.ok(syncJobService.status(jobId));
+    }
+
+    /**
+     * Cancel a running recipe sync job
+     *
+     * @param jobId Sync job ID
+     * @return ResponseEntity<CustomResponse<SyncJobStatus>>
+     */
+    @DeleteMapping("/load/{jobId}")
+    @Operation(summary = "Cancel recipe sync", description = "Stop a running sync job after the page it is writing; recipes written so far are kept and nothing is removed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cancellation requested, or the job had already finished", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not found - unknown or expired sync job", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<SyncJobStatus>> cancelLoad(
+            @Parameter(description = "Sync job ID returned by POST /load", required = true)
+            @PathVariable String jobId) {
+        log.info("Entered cancelLoad controller with jobId: {}", jobId);
+        return ResponseEntity.ok(syncJobService.cancel(jobId));
     }
 
     /**
-     * Search recipes by name or cuisine
+     * Search recipes by name or cuisine, one page at a time
      *
      * @param request RecipeSearchRequest
-     * @return ResponseEntity<CustomResponse<List<Recipe>>>
+     * @return ResponseEntity<CustomResponse<SearchPage<Recipe>>>
      */
     @PostMapping("/search")
-    @Operation(summary = "Search recipes", description = "Search recipes by name or cuisine using free text search with minimum 3 characters")
+    @Operation(summary = "Search recipes", description = "Search recipes by name or cuisine using free text search with minimum 3 characters. Returns one page of hits (offset and size) ordered by relevance, cook time or name; the total is exact up to a threshold and a lower bound beyond it")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Search completed successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
             @ApiResponse(responseCode = "400", description = "Bad request - invalid search parameters or query too short", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
     })
-    public ResponseEntity<CustomResponse<List<Recipe>>> searchRecipes(
-            @Parameter(description = "Search request containing query string (minimum 3 characters)", required = true)
+    public ResponseEntity<CustomResponse<SearchPage<Recipe>>> searchRecipes(
+            @Parameter(description = "Search request containing query string (minimum 3 characters), page offset and size, and sort", required = true)
             @Valid @RequestBody RecipeSearchRequest request) {
         log.info("Entered searchRecipes controller with query: {}", request.getQuery());
         return ResponseEntity.ok(recipeService.searchRecipes(request));
     }
 
     /**
-     * Get recipe by ID
+     * Search recipes by name or cuisine, returning a page of summaries only
+     *
+     * @param request RecipeSearchRequest
+     * @return ResponseEntity<CustomResponse<SearchPage<RecipeSummary>>>
+     */
+    @PostMapping("/search/summaries")
+    @Operation(summary = "Search recipe summaries", description = "Search recipes by name or cuisine and return a page of id, name, cuisine, image and cook time read from the search index, without loading recipes from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - invalid search parameters or query too short", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<SearchPage<RecipeSummary>>> searchRecipeSummaries(
+            @Parameter(description = "Search request containing query string (minimum 3 characters), page offset and size, and sort", required = true)
+            @Valid @RequestBody RecipeSearchRequest request) {
+        log.info("Entered searchRecipeSummaries controller with query: {}", request.getQuery());
+        return ResponseEntity.ok(recipeService.searchRecipeSummaries(request));
+    }
+
+    /**
+     * Search recipe summaries with facet counts for cuisines, tags and cook times
+     *
+     * @param request RecipeFacetSearchRequest
+     * @return ResponseEntity<CustomResponse<FacetedSearchResult>>
+     */
+    @PostMapping("/search/facets")
+    @Operation(summary = "Faceted recipe search", description = "Search recipes by name or cuisine, optionally narrowed to a cuisine and tags, and return the top hits as summaries with recipe counts per cuisine, tag and cook time range across all matches, read from the search index in one query")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - invalid search parameters, filters or limit", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<FacetedSearchResult>> searchRecipeFacets(
+            @Parameter(description = "Search request with query string (minimum 3 characters), optional cuisine and tag filters and hit limit", required = true)
+            @Valid @RequestBody RecipeFacetSearchRequest request) {
+        log.info("Entered searchRecipeFacets controller with query: {}", request.getQuery());
+        return ResponseEntity.ok(recipeService.searchRecipeFacets(request));
+    }
+
+    /**
+     * Suggest recipe names, cuisines and tags as the user types
      *
-     * @param id Recipe ID
-     * @return ResponseEntity<CustomResponse<Recipe>>
+     * @param prefix Text typed so far
+     * @param limit  Maximum number of suggestions
+     * @return ResponseEntity<CustomResponse<List<Suggestion>>>
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Autocomplete recipes", description = "Suggest recipe names, cuisines and tags with a word starting with the given prefix, served from an in-memory index")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - missing prefix or invalid limit", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<List<Suggestion>>> suggestRecipes(
+            @Parameter(description = "Text typed so far", required = true, example = "cur")
+            @RequestParam @NotBlank(message = "Prefix must not be blank") String prefix,
+            @Parameter(description = "Maximum number of suggestions (1-20)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "Limit must be positive") @Max(value = 20, message = "Limit must not exceed 20") int limit) {
+        log.debug("Entered suggestRecipes controller with prefix: {}", prefix);
+        return ResponseEntity.ok(suggestionService.suggest(prefix, limit));
+    }
+
+    /**
+     * Find the recipes that can be cooked from a list of ingredients at hand
+     *
+     * @param request PantryRequest
+     * @return ResponseEntity<CustomResponse<List<PantryMatch>>>
+     */
+    @PostMapping("/what-can-i-cook")
+    @Operation(summary = "What can I cook", description = "Rank recipes by the share of their ingredients covered by the given pantry, listing what is missing for each, served from an in-memory ingredient index")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching recipes retrieved successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - no ingredients, too many ingredients or invalid limit", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<List<PantryMatch>>> whatCanICook(
+            @Parameter(description = "Ingredients at hand (1-50) and maximum number of recipes (1-100)", required = true)
+            @Valid @RequestBody PantryRequest request) {
+        log.debug("Entered whatCanICook controller with {} ingredients", request.getIngredients().size());
+        return ResponseEntity.ok(ingredientMatchService.match(request.getIngredients(), request.getLimit()));
+    }
+
+    /**
+     * Get recipe by ID. The response is written from a pre-serialized payload carrying a weak ETag;
+     * a matching If-None-Match returns 304 with no body.
+     *
+     * @param id             Recipe ID
+     * @param acceptEncoding Accept-Encoding request header
+     * @return ResponseEntity<byte[]> serialized CustomResponse<Recipe>
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Get recipe by ID", description = "Retrieve a specific recipe by its unique identifier")
+    @Operation(summary = "Get recipe by ID", description = "Retrieve a specific recipe by its unique identifier. Supports If-None-Match and gzip content coding")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Recipe found and retrieved successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified - the cached representation identified by If-None-Match is still current"),
             @ApiResponse(responseCode = "400", description = "Bad request - invalid recipe ID format", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
             @ApiResponse(responseCode = "404", description = "Not found - recipe with specified ID does not exist", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
     })
-    public ResponseEntity<CustomResponse<Recipe>> getRecipeById(
+    public ResponseEntity<byte[]> getRecipeById(
             @Parameter(description = "Recipe ID (must be a positive integer)", required = true, example = "1")
-            @PathVariable @NotNull @Min(value = 1, message = "Recipe ID must be positive") Long id) {
+            @PathVariable @NotNull @Min(value = 1, message = "Recipe ID must be positive") Long id,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("Entered getRecipeById controller with id: {}", id);
-        return ResponseEntity.ok(recipeService.findById(id));
+        RecipePayload payload = recipePayloadService.findById(id);
+        boolean gzipped = payload.gzip() != null && acceptsGzip(acceptEncoding);
+
+        // Returning the ETag lets Spring answer a matching If-None-Match with 304 before the body is written
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(payload.etag(gzipped))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(payload.body(gzipped));
+    }
+
+    /**
+     * Get several recipes by ID in one request
+     *
+     * @param request RecipeBatchRequest
+     * @return ResponseEntity<CustomResponse<RecipeBatch>>
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Get recipes by IDs", description = "Retrieve up to 100 recipes in one request, in the order of the given ids. Cached recipes are served directly, the rest are loaded together; ids that do not exist are listed in missingIds")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recipes retrieved successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - no ids, too many ids or an invalid id", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<RecipeBatch>> getRecipesByIds(
+            @Parameter(description = "Recipe ids to retrieve (1-100 positive integers)", required = true)
+            @Valid @RequestBody RecipeBatchRequest request) {
+        log.info("Entered getRecipesByIds controller with {} ids", request.getIds().size());
+        return ResponseEntity.ok(recipeService.findAllById(request.getIds()));
     }
 
     /**
@@ -105,4 +295,58 @@ public class RecipeController {
         log.info("Entered getAllRecipes controller");
         return ResponseEntity.ok(recipeService.findAll());
     }
+
+    /**
+     * Get a page of recipes using keyset pagination
+     *
+     * @param cursor Cursor returned with the previous page
+     * @param size   Page size
+     * @return ResponseEntity<CustomResponse<RecipePage>>
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of recipes", description = "Retrieve recipes ordered by id using an opaque cursor from the previous page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recipe page retrieved successfully", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request - invalid cursor or page size", content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    public ResponseEntity<CustomResponse<RecipePage>> getRecipePage(
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "Page size must be positive") @Max(value = 100, message = "Page size must not exceed 100") int size) {
+        log.info("Entered getRecipePage controller with size: {}", size);
+        return ResponseEntity.ok(recipeService.findPage(cursor, size));
+    }
+
+    /**
+     * Stream all recipes as newline-delimited JSON
+     *
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all recipes", description = "Stream every recipe as newline-delimited JSON without materializing the catalog in memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recipes streamed successfully"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> streamRecipes() {
+        log.info("Entered streamRecipes controller");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(recipeStreamService::writeAll);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
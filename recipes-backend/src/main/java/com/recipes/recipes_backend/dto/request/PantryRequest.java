@@ -0,0 +1,28 @@
+package com.recipes.recipes_backend.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PantryRequest {
+    @NotEmpty(message = "Ingredients cannot be empty")
+    @Size(max = 50, message = "At most 50 ingredients can be given")
+    private List<@NotBlank(message = "Ingredient cannot be blank") String> ingredients;
+
+    @Min(value = 1, message = "Limit must be positive")
+    @Max(value = 100, message = "Limit must not exceed 100")
+    @Builder.Default
+    private int limit = 20;
+}
@@ -0,0 +1,24 @@
+package com.recipes.recipes_backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RecipeBatchRequest {
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty(message = "Recipe ids cannot be empty")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " recipe ids can be requested at once")
+    private List<@NotNull(message = "Recipe ID cannot be null") @Positive(message = "Recipe ID must be positive") Long> ids;
+}
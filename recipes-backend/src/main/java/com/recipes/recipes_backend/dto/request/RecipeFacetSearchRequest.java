@@ -0,0 +1,40 @@
+package com.recipes.recipes_backend.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RecipeFacetSearchRequest {
+    @NotBlank(message = "Search query cannot be empty")
+    @Size(min = 3, max = 100, message = "Search query must be between 3 and 100 characters")
+    private String query;
+
+    /**
+     * Only count and return recipes of this cuisine, as returned in the cuisine facet.
+     */
+    private String cuisine;
+
+    /**
+     * Only count and return recipes carrying all of these tags, as returned in the tag facet.
+     */
+    @Size(max = 10, message = "At most 10 tags can be selected")
+    @Builder.Default
+    private List<@NotBlank(message = "Tag cannot be blank") String> tags = new ArrayList<>();
+
+    @Min(value = 1, message = "Limit must be positive")
+    @Max(value = 100, message = "Limit must not exceed 100")
+    @Builder.Default
+    private int limit = 20;
+}
@@ -1,6 +1,9 @@
 package com.recipes.recipes_backend.dto.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,4 +18,23 @@ public class RecipeSearchRequest {
     @NotBlank(message = "Search query cannot be empty")
     @Size(min = 3, max = 100, message = "Search query must be between 3 and 100 characters")
     private String query;
+
+    @Min(value = 0, message = "Offset must not be negative")
+    @Max(value = 10_000, message = "Offset must not exceed 10000")
+    @Builder.Default
+    private int offset = 0;
+
+    @Min(value = 1, message = "Page size must be positive")
+    @Max(value = 100, message = "Page size must not exceed 100")
+    @Builder.Default
+    private int size = 20;
+
+    @NotNull(message = "Sort cannot be null")
+    @Builder.Default
+    private RecipeSearchSort sort = RecipeSearchSort.RELEVANCE;
+
+    /**
+     * Reverse the cook time or name order; relevance is always best first.
+     */
+    private boolean descending;
 }
@@ -0,0 +1,10 @@
+package com.recipes.recipes_backend.dto.request;
+
+/**
+ * Order of search hits. Ties are broken by recipe id so offset pages never overlap or skip hits.
+ */
+public enum RecipeSearchSort {
+    RELEVANCE,
+    COOK_TIME,
+    NAME
+}
@@ -0,0 +1,15 @@
+package com.recipes.recipes_backend.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Top hits of a search together with facet counts over every matching recipe, all read from the index
+ * in the same query. Facet maps are ordered: terms by descending count, cook time buckets by range.
+ */
+public record FacetedSearchResult(long totalHits,
+                                  List<RecipeSummary> hits,
+                                  Map<String, Long> cuisines,
+                                  Map<String, Long> tags,
+                                  Map<String, Long> cookTimes) {
+}
@@ -0,0 +1,20 @@
+package com.recipes.recipes_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PantryMatch {
+    private Long recipeId;
+    private String name;
+    private int matchedIngredients;
+    private int totalIngredients;
+    private List<String> missingIngredients;
+}
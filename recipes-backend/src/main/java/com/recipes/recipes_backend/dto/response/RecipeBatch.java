@@ -0,0 +1,18 @@
+package com.recipes.recipes_backend.dto.response;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RecipeBatch {
+    private List<Recipe> recipes;
+    private List<Long> missingIds;
+}
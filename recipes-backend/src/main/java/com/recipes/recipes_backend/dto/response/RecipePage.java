@@ -0,0 +1,20 @@
+package com.recipes.recipes_backend.dto.response;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RecipePage {
+    private List<Recipe> recipes;
+    private int size;
+    private String nextCursor;
+    private boolean hasMore;
+}
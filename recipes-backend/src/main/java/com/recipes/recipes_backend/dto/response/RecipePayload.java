@@ -0,0 +1,22 @@
+package com.recipes.recipes_backend.dto.response;
+
+/**
+ * A recipe response serialized once and kept as bytes, ready to be written to any number of clients.
+ *
+ * @param etag weak entity tag of the recipe content, independent of the envelope timestamp
+ * @param json identity-encoded JSON body
+ * @param gzip gzip-encoded JSON body, or null when compression would not pay off
+ */
+public record RecipePayload(String etag, byte[] json, byte[] gzip) {
+
+    /**
+     * Each content coding is a different representation, so the gzip body gets its own tag.
+     */
+    public String etag(boolean gzipped) {
+        return gzipped ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+}
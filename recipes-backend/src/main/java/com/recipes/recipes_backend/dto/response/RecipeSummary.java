@@ -0,0 +1,8 @@
+package com.recipes.recipes_backend.dto.response;
+
+/**
+ * Search hit projected straight from the index: enough to render a result card without loading the
+ * recipe entity or its collections.
+ */
+public record RecipeSummary(Long id, String name, String cuisine, String image, Integer cookTimeMinutes) {
+}
@@ -0,0 +1,29 @@
+package com.recipes.recipes_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One offset page of search hits. Hits are only counted up to a threshold, so for broad queries
+ * {@code totalHits} is a lower bound and {@code totalHitsExact} is false.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SearchPage<T> {
+    private List<T> hits;
+    private int offset;
+    private int size;
+    private long totalHits;
+    private boolean totalHitsExact;
+    private boolean hasMore;
+
+    public static <T> SearchPage<T> empty(int offset, int size) {
+        return new SearchPage<>(List.of(), offset, size, 0, true, false);
+    }
+}
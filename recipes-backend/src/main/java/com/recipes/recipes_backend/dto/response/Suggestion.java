@@ -0,0 +1,16 @@
+package com.recipes.recipes_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Suggestion {
+    private String text;
+    private String type;
+    private int recipeCount;
+}
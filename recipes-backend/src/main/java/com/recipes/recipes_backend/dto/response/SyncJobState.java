@@ -0,0 +1,8 @@
+package com.recipes.recipes_backend.dto.response;
+
+public enum SyncJobState {
+    RUNNING,
+    SUCCEEDED,
+    CANCELLED,
+    FAILED
+}
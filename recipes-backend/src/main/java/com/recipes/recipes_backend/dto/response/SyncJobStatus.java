@@ -0,0 +1,33 @@
+package com.recipes.recipes_backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Point-in-time view of a recipe sync job, polled through {@code GET /api/recipes/load/{jobId}}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SyncJobStatus {
+    private String jobId;
+    private SyncJobState state;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long elapsedMillis;
+    private int pagesFetched;
+    private int recipesFetched;
+    private int catalogSize;
+    private int recipesWritten;
+    private int recipesRemoved;
+    private int documentsIndexed;
+    // Whether the whole external catalog was fetched; removals only happen on complete runs
+    private boolean complete;
+    private boolean cancelRequested;
+    private String error;
+}
@@ -0,0 +1,16 @@
+package com.recipes.recipes_backend.dto.response;
+
+/**
+ * Outcome of one synchronization with the external recipe API.
+ *
+ * @param fetched   recipes received from the external API
+ * @param inserted  recipes that were new
+ * @param updated   recipes whose content changed
+ * @param unchanged recipes skipped because their content hash matched
+ * @param removed   recipes deleted because they no longer exist upstream
+ * @param complete  whether the whole external catalog was seen; removals only happen on complete runs
+ * @param failure   why fetching stopped early, or {@code null} if the external API answered every page
+ */
+public record SyncReport(int fetched, int inserted, int updated, int unchanged, int removed, boolean complete,
+                         String failure) {
+}
@@ -0,0 +1,24 @@
+package com.recipes.recipes_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One distinct ingredient line. Recipes reference ingredients by id from {@code recipe_ingredients}, so
+ * each line is stored once.
+ */
+@Table(name = "ingredients")
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Ingredient {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
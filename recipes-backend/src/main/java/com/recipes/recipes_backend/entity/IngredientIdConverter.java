@@ -0,0 +1,31 @@
+package com.recipes.recipes_backend.entity;
+
+import com.recipes.recipes_backend.repository.TermDictionaries;
+import com.recipes.recipes_backend.repository.TermDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a recipe ingredient as the id of its {@link Ingredient} row and reads it back as the shared
+ * dictionary instance. Writers resolve their ingredients up front, so converting an ingredient for
+ * writing is a lookup and never inserts.
+ */
+@Converter
+public class IngredientIdConverter implements AttributeConverter<String, Integer> {
+
+    private final TermDictionary dictionary;
+
+    public IngredientIdConverter(TermDictionaries dictionaries) {
+        this.dictionary = dictionaries.ingredients();
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String ingredient) {
+        return ingredient == null ? null : dictionary.id(ingredient);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : dictionary.name(id);
+    }
+}
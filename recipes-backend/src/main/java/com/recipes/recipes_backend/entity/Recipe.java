@@ -1,12 +1,20 @@
 package com.recipes.recipes_backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.recipes.recipes_backend.config.RecipeAnalysisConfigurer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,19 +29,28 @@ import java.util.List;
 @Indexed
 public class Recipe {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_seq")
+    @SequenceGenerator(name = "recipe_seq", sequenceName = "recipe_seq", allocationSize = 50)
+    @GenericField(name = "id_sort", sortable = Sortable.YES)
     private Long id;
 
-    @FullTextField
+    @FullTextField(projectable = Projectable.YES)
+    @FullTextField(name = "name_prefix", analyzer = RecipeAnalysisConfigurer.EDGE_NGRAM, searchAnalyzer = RecipeAnalysisConfigurer.SEARCH)
+    @FullTextField(name = "name_ngram", analyzer = RecipeAnalysisConfigurer.NGRAM, searchAnalyzer = RecipeAnalysisConfigurer.SEARCH)
+    @KeywordField(name = "name_sort", normalizer = RecipeAnalysisConfigurer.SORT, sortable = Sortable.YES)
     @Column(nullable = false)
     private String name;
 
-    @FullTextField
+    @FullTextField(projectable = Projectable.YES)
+    @FullTextField(name = "cuisine_prefix", analyzer = RecipeAnalysisConfigurer.EDGE_NGRAM, searchAnalyzer = RecipeAnalysisConfigurer.SEARCH)
+    @FullTextField(name = "cuisine_ngram", analyzer = RecipeAnalysisConfigurer.NGRAM, searchAnalyzer = RecipeAnalysisConfigurer.SEARCH)
+    @KeywordField(name = "cuisine_facet", aggregable = Aggregable.YES)
     private String cuisine;
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "recipe_ingredients", joinColumns = @JoinColumn(name = "recipe_id"))
-    @Column(name = "ingredient", nullable = false)
+    @Column(name = "ingredient_id", nullable = false)
+    @Convert(converter = IngredientIdConverter.class)
     @Builder.Default
     private List<String> ingredients = new ArrayList<>();
 
@@ -46,13 +63,30 @@ public class Recipe {
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "recipe_tags", joinColumns = @JoinColumn(name = "recipe_id"))
-    @Column(name = "tag", nullable = false)
+    @Column(name = "tag_id", nullable = false)
+    @Convert(converter = TagIdConverter.class)
+    @KeywordField(name = "tags_facet", aggregable = Aggregable.YES)
     @Builder.Default
     private List<String> tags = new ArrayList<>();
 
+    @GenericField(projectable = Projectable.YES, searchable = Searchable.NO, aggregable = Aggregable.YES, sortable = Sortable.YES)
     @Column(name = "cook_time_minutes")
     private Integer cookTimeMinutes;
 
+    @GenericField(projectable = Projectable.YES, searchable = Searchable.NO)
     @Column(name = "image_url")
     private String image;
+
+    /**
+     * Id of the recipe in the external API, the natural key used to match recipes during sync.
+     */
+    @Column(name = "external_id", unique = true)
+    private Long externalId;
+
+    /**
+     * SHA-256 of the external content, compared during sync to skip recipes that did not change.
+     */
+    @JsonIgnore
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 }
@@ -0,0 +1,23 @@
+package com.recipes.recipes_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One distinct tag. Recipes reference tags by id from {@code recipe_tags}, so each name is stored once.
+ */
+@Table(name = "tags")
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Tag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
@@ -0,0 +1,30 @@
+package com.recipes.recipes_backend.entity;
+
+import com.recipes.recipes_backend.repository.TermDictionaries;
+import com.recipes.recipes_backend.repository.TermDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a recipe tag as the id of its {@link Tag} row and reads it back as the shared dictionary instance.
+ * Writers resolve their tags up front, so converting a tag for writing is a lookup and never inserts.
+ */
+@Converter
+public class TagIdConverter implements AttributeConverter<String, Integer> {
+
+    private final TermDictionary dictionary;
+
+    public TagIdConverter(TermDictionaries dictionaries) {
+        this.dictionary = dictionaries.tags();
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String tag) {
+        return tag == null ? null : dictionary.id(tag);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id == null ? null : dictionary.name(id);
+    }
+}
@@ -0,0 +1,19 @@
+package com.recipes.recipes_backend.event;
+
+import com.recipes.recipes_backend.entity.Recipe;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that writes recipes. Listeners that keep derived state (caches,
+ * in-memory indexes) should use {@code @TransactionalEventListener} so they only react after commit.
+ *
+ * @param recipes    recipes inserted or updated by the transaction
+ * @param removedIds ids of recipes deleted by the transaction
+ */
+public record RecipesChangedEvent(List<Recipe> recipes, List<Long> removedIds) {
+
+    public RecipesChangedEvent(List<Recipe> recipes) {
+        this(recipes, List.of());
+    }
+}
@@ -0,0 +1,12 @@
+package com.recipes.recipes_backend.event;
+
+import com.recipes.recipes_backend.dto.response.SyncReport;
+
+/**
+ * Published once a sync with the external API has stopped, after every page it wrote is committed.
+ * Unlike {@link RecipesChangedEvent}, which fires per page, it marks a point where the catalog is whole.
+ *
+ * @param report counts of the finished run
+ */
+public record RecipesSyncedEvent(SyncReport report) {
+}
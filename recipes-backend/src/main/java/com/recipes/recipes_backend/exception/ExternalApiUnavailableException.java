@@ -0,0 +1,7 @@
+package com.recipes.recipes_backend.exception;
+
+public class ExternalApiUnavailableException extends RuntimeException {
+    public ExternalApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,6 +2,7 @@ package com.recipes.recipes_backend.exception;
 
 import com.recipes.recipes_backend.dto.response.CustomResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -23,6 +24,28 @@ public class GlobalExceptionHandler {
                 .body(CustomResponse.error(HttpStatus.NOT_FOUND.value(), ex.getMessage()));
     }
 
+    @ExceptionHandler(SyncJobNotFoundException.class)
+    public ResponseEntity<CustomResponse<Object>> handleSyncJobNotFound(SyncJobNotFoundException ex) {
+        log.error("Sync job not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(CustomResponse.error(HttpStatus.NOT_FOUND.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<CustomResponse<Object>> handleInvalidCursor(InvalidCursorException ex) {
+        log.error("Invalid cursor: {}", ex.getMessage());
+        return ResponseEntity.badRequest()
+                .body(CustomResponse.error(HttpStatus.BAD_REQUEST.value(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<CustomResponse<Object>> handleServiceBusy(ServiceBusyException ex) {
+        log.warn("Rejected request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(CustomResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage()));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<CustomResponse<Map<String, String>>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
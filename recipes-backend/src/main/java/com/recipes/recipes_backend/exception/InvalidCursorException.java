@@ -0,0 +1,7 @@
+package com.recipes.recipes_backend.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
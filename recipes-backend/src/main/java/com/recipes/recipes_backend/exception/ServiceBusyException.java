@@ -0,0 +1,7 @@
+package com.recipes.recipes_backend.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
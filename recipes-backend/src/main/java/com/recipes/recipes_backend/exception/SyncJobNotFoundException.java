@@ -0,0 +1,7 @@
+package com.recipes.recipes_backend.exception;
+
+public class SyncJobNotFoundException extends RuntimeException {
+    public SyncJobNotFoundException(String message) {
+        super(message);
+    }
+}
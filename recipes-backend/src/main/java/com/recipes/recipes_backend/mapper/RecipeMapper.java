@@ -0,0 +1,94 @@
+package com.recipes.recipes_backend.mapper;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.entity.Recipe;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Maps external API payloads to entities with plain field copies, so ingestion pays no reflection or
+ * type-matching cost per recipe.
+ */
+@Component
+public class RecipeMapper {
+
+    private static final byte FIELD_SEPARATOR = 0x1E;
+    private static final byte VALUE_SEPARATOR = 0x1F;
+
+    /**
+     * Build a new, unsaved recipe from an external DTO. The external id is kept as the natural key;
+     * the recipe id is assigned by the database sequence.
+     */
+    public Recipe toEntity(ExternalRecipeDto dto) {
+        Recipe recipe = new Recipe();
+        recipe.setExternalId(dto.getId());
+        updateEntity(recipe, dto);
+        return recipe;
+    }
+
+    /**
+     * Overwrite the content of an existing recipe. Collections are replaced rather than edited, so
+     * Hibernate rewrites them without reading the old rows first.
+     */
+    public void updateEntity(Recipe recipe, ExternalRecipeDto dto) {
+        recipe.setName(dto.getName());
+        recipe.setCuisine(dto.getCuisine());
+        recipe.setIngredients(copy(dto.getIngredients()));
+        recipe.setInstructions(copy(dto.getInstructions()));
+        recipe.setTags(copy(dto.getTags()));
+        recipe.setCookTimeMinutes(dto.getCookTimeMinutes());
+        recipe.setImage(dto.getImage());
+        recipe.setContentHash(contentHash(dto));
+    }
+
+    /**
+     * SHA-256 over every persisted field of the DTO, hex encoded. Two payloads hash equal exactly when
+     * they would produce the same recipe row and collections.
+     */
+    public String contentHash(ExternalRecipeDto dto) {
+        MessageDigest digest = sha256();
+        update(digest, dto.getName());
+        update(digest, dto.getCuisine());
+        update(digest, dto.getIngredients());
+        update(digest, dto.getInstructions());
+        update(digest, dto.getTags());
+        update(digest, dto.getCookTimeMinutes() == null ? null : dto.getCookTimeMinutes().toString());
+        update(digest, dto.getImage());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, List<String> values) {
+        if (values != null) {
+            for (String value : values) {
+                update(digest, value);
+                digest.update(VALUE_SEPARATOR);
+            }
+        }
+        digest.update(FIELD_SEPARATOR);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(FIELD_SEPARATOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+}
@@ -0,0 +1,119 @@
+package com.recipes.recipes_backend.repository;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Non-blocking recipe reads over R2DBC, mapping the tables written by JPA. The connection pool is owned
+ * here rather than exposed as a {@code ConnectionFactory} bean, which would make Spring Boot back off
+ * from configuring the JDBC {@code DataSource} used by JPA.
+ */
+public class ReactiveRecipeReader implements DisposableBean {
+
+    private static final String SELECT_RECIPES = "SELECT id, name, cuisine, cook_time_minutes, image_url, external_id FROM recipes";
+    private static final String SELECT_INGREDIENTS =
+            "SELECT ri.recipe_id, i.name AS item FROM recipe_ingredients ri JOIN ingredients i ON i.id = ri.ingredient_id WHERE ri.recipe_id IN (:ids)";
+    private static final String SELECT_INSTRUCTIONS =
+            "SELECT recipe_id, instruction AS item FROM recipe_instructions WHERE recipe_id IN (:ids) ORDER BY recipe_id, step_order";
+    private static final String SELECT_TAGS =
+            "SELECT rt.recipe_id, t.name AS item FROM recipe_tags rt JOIN tags t ON t.id = rt.tag_id WHERE rt.recipe_id IN (:ids)";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int chunkSize;
+
+    public ReactiveRecipeReader(ConnectionFactoryOptions connectionOptions, int maxPoolSize, int chunkSize) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(connectionOptions))
+                .maxSize(maxPoolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Stream every recipe in id order. Recipes are read in keyset chunks and the next chunk is only
+     * queried once downstream has demanded the previous one, so a slow client holds at most one chunk.
+     */
+    public Flux<Recipe> findAll() {
+        return findChunkAfter(0L)
+                .expand(chunk -> chunk.size() < chunkSize
+                        ? Mono.empty()
+                        : findChunkAfter(chunk.get(chunk.size() - 1).getId()))
+                .concatMapIterable(Function.identity(), 1);
+    }
+
+    public Mono<Recipe> findById(long id) {
+        return databaseClient.sql(SELECT_RECIPES + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveRecipeReader::toRecipe)
+                .one()
+                .flatMap(recipe -> withCollections(List.of(recipe)))
+                .map(recipes -> recipes.get(0));
+    }
+
+    private Mono<List<Recipe>> findChunkAfter(long afterId) {
+        return databaseClient.sql(SELECT_RECIPES + " WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", chunkSize)
+                .map(ReactiveRecipeReader::toRecipe)
+                .all()
+                .collectList()
+                .flatMap(this::withCollections);
+    }
+
+    /**
+     * Fill the three element collections of a chunk with one query each, mirroring the fetch strategy
+     * of the JPA read path.
+     */
+    private Mono<List<Recipe>> withCollections(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return Mono.just(recipes);
+        }
+        Map<Long, Recipe> recipesById = new LinkedHashMap<>();
+        recipes.forEach(recipe -> recipesById.put(recipe.getId(), recipe));
+
+        return Mono.when(
+                        fill(SELECT_INGREDIENTS, recipesById, Recipe::getIngredients),
+                        fill(SELECT_INSTRUCTIONS, recipesById, Recipe::getInstructions),
+                        fill(SELECT_TAGS, recipesById, Recipe::getTags))
+                .thenReturn(recipes);
+    }
+
+    private Mono<Void> fill(String sql, Map<Long, Recipe> recipesById, Function<Recipe, List<String>> collection) {
+        return databaseClient.sql(sql)
+                .bind("ids", recipesById.keySet())
+                .map(row -> Map.entry(row.get("recipe_id", Long.class), row.get("item", String.class)))
+                .all()
+                .doOnNext(item -> collection.apply(recipesById.get(item.getKey())).add(item.getValue()))
+                .then();
+    }
+
+    private static Recipe toRecipe(Readable row) {
+        return Recipe.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .cuisine(row.get("cuisine", String.class))
+                .cookTimeMinutes(row.get("cook_time_minutes", Integer.class))
+                .image(row.get("image_url", String.class))
+                .externalId(row.get("external_id", Long.class))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,7 @@
+package com.recipes.recipes_backend.repository;
+
+/**
+ * Stored content hash of a recipe, keyed by its external id.
+ */
+public record RecipeContentHash(Long externalId, String contentHash) {
+}
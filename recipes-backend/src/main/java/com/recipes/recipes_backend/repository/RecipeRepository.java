@@ -1,9 +1,36 @@
 package com.recipes.recipes_backend.repository;
 
 import com.recipes.recipes_backend.entity.Recipe;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RecipeRepository extends JpaRepository<Recipe,Long> {
+
+    List<Recipe> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT new com.recipes.recipes_backend.repository.RecipeText(r.id, r.name) FROM Recipe r")
+    List<RecipeText> findAllNames();
+
+    @Query("SELECT new com.recipes.recipes_backend.repository.RecipeText(r.id, r.cuisine) FROM Recipe r")
+    List<RecipeText> findAllCuisines();
+
+    @Query("SELECT new com.recipes.recipes_backend.repository.RecipeText(r.id, t) FROM Recipe r JOIN r.tags t")
+    List<RecipeText> findAllTags();
+
+    @Query("SELECT new com.recipes.recipes_backend.repository.RecipeText(r.id, i) FROM Recipe r JOIN r.ingredients i")
+    List<RecipeText> findAllIngredients();
+
+    List<Recipe> findByExternalIdIn(Collection<Long> externalIds);
+
+    @Query("SELECT new com.recipes.recipes_backend.repository.RecipeContentHash(r.externalId, r.contentHash) FROM Recipe r WHERE r.externalId IN :externalIds")
+    List<RecipeContentHash> findContentHashes(Collection<Long> externalIds);
+
+    @Query("SELECT r.externalId FROM Recipe r WHERE r.externalId IS NOT NULL")
+    List<Long> findAllExternalIds();
 }
@@ -0,0 +1,7 @@
+package com.recipes.recipes_backend.repository;
+
+/**
+ * One text value of a recipe (name, cuisine or tag), read without loading the entity.
+ */
+public record RecipeText(Long recipeId, String text) {
+}
@@ -0,0 +1,56 @@
+package com.recipes.recipes_backend.repository;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The tag and ingredient dictionaries behind {@code recipe_tags} and {@code recipe_ingredients}. Only the
+ * data source is injected, because the converters using this bean are created while the entity manager
+ * factory is being built. Writes through it still join the caller's JPA transaction.
+ */
+@Component
+public class TermDictionaries {
+
+    private final TermDictionary tags;
+    private final TermDictionary ingredients;
+
+    public TermDictionaries(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        this.tags = new TermDictionary("tags", jdbcTemplate);
+        this.ingredients = new TermDictionary("ingredients", jdbcTemplate);
+    }
+
+    public TermDictionary tags() {
+        return tags;
+    }
+
+    public TermDictionary ingredients() {
+        return ingredients;
+    }
+
+    /**
+     * Resolve the tags and ingredients of a batch of recipes with one lookup per dictionary, and swap
+     * their values for the shared instances so recipes kept in memory after the write share them too.
+     * Must run before the recipes are flushed: the converters only look ids up.
+     *
+     * @param recipes recipes about to be written
+     */
+    public void resolveAll(Collection<Recipe> recipes) {
+        resolveAll(recipes, Recipe::getTags, tags);
+        resolveAll(recipes, Recipe::getIngredients, ingredients);
+    }
+
+    private static void resolveAll(Collection<Recipe> recipes, Function<Recipe, List<String>> values,
+                                   TermDictionary dictionary) {
+        List<List<String>> lists = recipes.stream().map(values).filter(Objects::nonNull).toList();
+        dictionary.resolveAll(lists.stream().flatMap(List::stream).toList());
+        lists.forEach(list -> list.replaceAll(dictionary::canonical));
+    }
+}
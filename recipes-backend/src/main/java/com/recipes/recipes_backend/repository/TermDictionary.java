@@ -0,0 +1,189 @@
+package com.recipes.recipes_backend.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Two-way mapping between the names of one dictionary table ({@code id}, unique {@code name}) and their
+ * integer ids. Each name is held once in memory and every entity reading it back gets that instance.
+ * <p>
+ * Writers resolve their names with {@link #resolveAll} before flushing; {@link #id} only looks names up.
+ * Unknown names are inserted on the caller's connection and within its transaction, so resolving never
+ * needs a second pooled connection. Ids inserted by a transaction are only visible to that transaction
+ * until it commits, and are dropped if it rolls back, so an id handed out here always has its row.
+ */
+public class TermDictionary {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final String table;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+    private final Terms committed = new Terms(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    TermDictionary(String table, JdbcTemplate jdbcTemplate) {
+        this.table = table;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+    }
+
+    /**
+     * Id of the given name, which must have been resolved with {@link #resolveAll} first.
+     *
+     * @throws IllegalStateException when the name is not in the dictionary
+     */
+    public Integer id(String name) {
+        Integer id = committed.idsByName.get(name);
+        if (id == null) {
+            Terms pending = pending(false);
+            id = pending == null ? null : pending.idsByName.get(name);
+        }
+        if (id == null) {
+            throw new IllegalStateException("'" + name + "' is not in " + table + "; resolve it before writing");
+        }
+        return id;
+    }
+
+    /**
+     * The shared instance of the name with the given id. The first unknown id, e.g. after a restart on
+     * a populated database, loads the whole table; rows the current transaction inserted are left out,
+     * as they are not committed yet.
+     */
+    public String name(int id) {
+        String name = committed.namesById.get(id);
+        Terms pending = name == null ? pending(false) : null;
+        name = pending == null ? name : pending.namesById.get(id);
+        if (name == null) {
+            jdbcClient.sql("SELECT id, name FROM " + table)
+                    .query(TermDictionary::term)
+                    .list()
+                    .stream()
+                    .filter(term -> pending == null || !pending.namesById.containsKey(term.getValue()))
+                    .forEach(committed::register);
+            name = committed.namesById.get(id);
+        }
+        if (name == null) {
+            throw new IllegalStateException("No " + table + " row with id " + id);
+        }
+        return name;
+    }
+
+    /**
+     * The shared instance equal to the given name, or the name itself when it is not in the dictionary.
+     */
+    public String canonical(String name) {
+        String canonical = committed.canonical(name);
+        Terms pending = canonical == null ? pending(false) : null;
+        canonical = pending == null ? canonical : pending.canonical(name);
+        return canonical == null ? name : canonical;
+    }
+
+    /**
+     * Make sure every given name has an id: names not known yet are looked up in chunks and the ones
+     * still missing are batch inserted.
+     */
+    public void resolveAll(Collection<String> names) {
+        Terms pending = pending(true);
+        List<String> unknown = names.stream()
+                .filter(name -> !committed.idsByName.containsKey(name))
+                .filter(name -> pending == null || !pending.idsByName.containsKey(name))
+                .distinct()
+                .toList();
+        if (unknown.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> resolved;
+        try {
+            resolved = findOrInsert(unknown);
+        } catch (DuplicateKeyException e) {
+            // Another writer inserted one of the names first and has committed since; this pass finds it
+            resolved = findOrInsert(unknown);
+        }
+        resolved.entrySet().forEach(pending == null ? committed::register : pending::register);
+    }
+
+    public int size() {
+        return committed.namesById.size();
+    }
+
+    /**
+     * Names resolved by the current transaction, or {@code null} outside of one. Created on demand and
+     * merged into the committed names after the transaction commits.
+     */
+    private Terms pending(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Terms pending = (Terms) TransactionSynchronizationManager.getResource(this);
+        if (pending == null && create) {
+            Terms terms = new Terms(new HashMap<>(), new HashMap<>());
+            TransactionSynchronizationManager.bindResource(this, terms);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TermDictionary.this);
+                    if (status == STATUS_COMMITTED) {
+                        terms.idsByName.entrySet().forEach(committed::register);
+                    }
+                }
+            });
+            pending = terms;
+        }
+        return pending;
+    }
+
+    private Map<String, Integer> findOrInsert(List<String> names) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int from = 0; from < names.size(); from += CHUNK_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + CHUNK_SIZE, names.size()));
+            ids.putAll(find(chunk));
+
+            List<String> missing = chunk.stream().filter(name -> !ids.containsKey(name)).toList();
+            if (!missing.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO " + table + " (name) VALUES (?)", missing, missing.size(),
+                        (ps, name) -> ps.setString(1, name));
+                ids.putAll(find(missing));
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, Integer> find(List<String> names) {
+        return jdbcClient.sql("SELECT id, name FROM " + table + " WHERE name IN (:names)")
+                .param("names", names)
+                .query(TermDictionary::term)
+                .list()
+                .stream()
+                .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    }
+
+    private static Entry<String, Integer> term(ResultSet rs, int rowNum) throws SQLException {
+        return Map.entry(rs.getString("name"), rs.getInt("id"));
+    }
+
+    private record Terms(Map<String, Integer> idsByName, Map<Integer, String> namesById) {
+
+        void register(Entry<String, Integer> term) {
+            String name = namesById.computeIfAbsent(term.getValue(), id -> term.getKey());
+            idsByName.putIfAbsent(name, term.getValue());
+        }
+
+        String canonical(String name) {
+            Integer id = idsByName.get(name);
+            return id == null ? null : namesById.get(id);
+        }
+    }
+}
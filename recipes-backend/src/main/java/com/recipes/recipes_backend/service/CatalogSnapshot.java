@@ -0,0 +1,209 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.entity.Recipe;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Immutable, compact copy of the whole catalog. Recipes are numbered by offset in id order: ids sit in
+ * a sorted {@code long[]} resolved by binary search, scalar fields in parallel primitive arrays, and text
+ * as numbers into one table holding each distinct string once, decoded when the snapshot is built.
+ * Collections are runs of string numbers delimited by a start offset per recipe.
+ * <p>
+ * Nothing in the snapshot is handed out. Each read returns a new detached {@link Recipe} whose
+ * collections are unmodifiable views over the runs, so a read copies no text and no collection, and
+ * whatever a caller does with the recipe cannot reach other readers. {@link #findAll} is a view that
+ * creates each recipe as it is visited.
+ */
+final class CatalogSnapshot {
+
+    private static final int NULL_STRING = -1;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private final long[] ids;
+    private final long[] externalIds;
+    private final int[] cookTimes;
+    private final int[] names;
+    private final int[] cuisines;
+    private final int[] images;
+    private final Values ingredients;
+    private final Values instructions;
+    private final Values tags;
+    private final String[] strings;
+
+    private CatalogSnapshot(long[] ids, long[] externalIds, int[] cookTimes, int[] names, int[] cuisines, int[] images,
+                            Values ingredients, Values instructions, Values tags, String[] strings) {
+        this.ids = ids;
+        this.externalIds = externalIds;
+        this.cookTimes = cookTimes;
+        this.names = names;
+        this.cuisines = cuisines;
+        this.images = images;
+        this.ingredients = ingredients;
+        this.instructions = instructions;
+        this.tags = tags;
+        this.strings = strings;
+    }
+
+    static CatalogSnapshot build(List<Recipe> recipes) {
+        List<Recipe> sorted = new ArrayList<>(recipes);
+        sorted.sort(Comparator.comparing(Recipe::getId));
+        int size = sorted.size();
+        StringTable strings = new StringTable();
+
+        long[] ids = new long[size];
+        long[] externalIds = new long[size];
+        int[] cookTimes = new int[size];
+        int[] names = new int[size];
+        int[] cuisines = new int[size];
+        int[] images = new int[size];
+        for (int offset = 0; offset < size; offset++) {
+            Recipe recipe = sorted.get(offset);
+            ids[offset] = recipe.getId();
+            externalIds[offset] = recipe.getExternalId() == null ? NULL_LONG : recipe.getExternalId();
+            cookTimes[offset] = recipe.getCookTimeMinutes() == null ? NULL_INT : recipe.getCookTimeMinutes();
+            names[offset] = strings.add(recipe.getName());
+            cuisines[offset] = strings.add(recipe.getCuisine());
+            images[offset] = strings.add(recipe.getImage());
+        }
+
+        return new CatalogSnapshot(ids, externalIds, cookTimes, names, cuisines, images,
+                Values.build(sorted, Recipe::getIngredients, strings),
+                Values.build(sorted, Recipe::getInstructions, strings),
+                Values.build(sorted, Recipe::getTags, strings),
+                strings.values.toArray(String[]::new));
+    }
+
+    Recipe find(long id) {
+        int offset = Arrays.binarySearch(ids, id);
+        return offset < 0 ? null : recipe(offset);
+    }
+
+    List<Recipe> findAll() {
+        return new Recipes();
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    int distinctStrings() {
+        return strings.length;
+    }
+
+    private Recipe recipe(int offset) {
+        return Recipe.builder()
+                .id(ids[offset])
+                .name(string(names[offset]))
+                .cuisine(string(cuisines[offset]))
+                .ingredients(new Run(ingredients, offset))
+                .instructions(new Run(instructions, offset))
+                .tags(new Run(tags, offset))
+                .cookTimeMinutes(cookTimes[offset] == NULL_INT ? null : cookTimes[offset])
+                .image(string(images[offset]))
+                .externalId(externalIds[offset] == NULL_LONG ? null : externalIds[offset])
+                .build();
+    }
+
+    private String string(int number) {
+        return number == NULL_STRING ? null : strings[number];
+    }
+
+    /**
+     * The catalog in id order, one new recipe per {@link #get}.
+     */
+    private final class Recipes extends AbstractList<Recipe> implements RandomAccess {
+
+        @Override
+        public Recipe get(int index) {
+            return recipe(Objects.checkIndex(index, ids.length));
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * Unmodifiable view of one recipe's collection.
+     */
+    private final class Run extends AbstractList<String> implements RandomAccess {
+
+        private final int[] numbers;
+        private final int from;
+        private final int size;
+
+        Run(Values values, int offset) {
+            this.numbers = values.strings;
+            this.from = values.starts[offset];
+            this.size = values.starts[offset + 1] - from;
+        }
+
+        @Override
+        public String get(int index) {
+            return strings[numbers[from + Objects.checkIndex(index, size)]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * One collection of every recipe: the string numbers of recipe {@code i} are
+     * {@code strings[starts[i]]} up to {@code strings[starts[i + 1]]}.
+     */
+    private record Values(int[] starts, int[] strings) {
+
+        static Values build(List<Recipe> recipes, Function<Recipe, List<String>> collection, StringTable table) {
+            int[] starts = new int[recipes.size() + 1];
+            int total = 0;
+            for (int offset = 0; offset < recipes.size(); offset++) {
+                List<String> values = collection.apply(recipes.get(offset));
+                starts[offset] = total;
+                total += values == null ? 0 : values.size();
+            }
+            starts[recipes.size()] = total;
+
+            int[] strings = new int[total];
+            for (int offset = 0; offset < recipes.size(); offset++) {
+                List<String> values = collection.apply(recipes.get(offset));
+                for (int i = 0; values != null && i < values.size(); i++) {
+                    strings[starts[offset] + i] = table.add(values.get(i));
+                }
+            }
+            return new Values(starts, strings);
+        }
+    }
+
+    /**
+     * Build-time dictionary that numbers each distinct string once.
+     */
+    private static final class StringTable {
+
+        private final Map<String, Integer> numbers = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int add(String value) {
+            if (value == null) {
+                return NULL_STRING;
+            }
+            return numbers.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesSyncedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class CatalogSnapshotService {
+
+    private final SearchService searchService;
+    private final CacheManager cacheManager;
+
+    @Value("${recipes.snapshot.enabled:false}")
+    private boolean enabled;
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile long generation;
+
+    /**
+     * Whether reads are served from the snapshot: snapshot mode is enabled and a first snapshot has been
+     * published. Until then reads go to the database.
+     */
+    public boolean isServing() {
+        return enabled && snapshot != null;
+    }
+
+    /**
+     * Number of snapshots published so far, for keying data derived from the snapshot. It is bumped after
+     * the snapshot is swapped in, so a reader that sees a generation also sees that snapshot or a newer one.
+     * Stays 0 when snapshot mode is disabled.
+     */
+    public long generation() {
+        return generation;
+    }
+
+    public Optional<Recipe> findById(long id) {
+        return Optional.ofNullable(snapshot.find(id));
+    }
+
+    public List<Recipe> findAll() {
+        return snapshot.findAll();
+    }
+
+    /**
+     * Load the whole catalog, copy it into a new snapshot and publish it with a single reference write.
+     * Runs at startup and after each sync, never per written page, so readers see either the previous
+     * catalog or the complete new one. A sync that fails keeps the previous snapshot until the next run.
+     * Payloads cached under the previous generation can no longer be read, so they are dropped right away
+     * rather than left to expire.
+     */
+    @EventListener({ApplicationReadyEvent.class, RecipesSyncedEvent.class})
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        CatalogSnapshot next = CatalogSnapshot.build(searchService.getAllRecipesWithInitializedCollections());
+        snapshot = next;
+        generation++;
+        cacheManager.getCache(CacheConfig.RECIPE_PAYLOADS).clear();
+        log.info("Catalog snapshot published with {} recipes, {} distinct strings, in {} ms",
+                next.size(), next.distinctStrings(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -1,6 +1,8 @@
 package com.recipes.recipes_backend.service;
 
+import com.recipes.recipes_backend.config.CacheConfig;
 import com.recipes.recipes_backend.dto.response.ExternalRecipeResponse;
+import com.recipes.recipes_backend.exception.ExternalApiUnavailableException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
@@ -11,8 +13,12 @@ import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
@@ -22,8 +28,13 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class ExternalRecipeClient {
 
+    private static final String PAGE_FIELDS = "name,cuisine,ingredients,instructions,tags,cookTimeMinutes,image";
+
     private final WebClient.Builder webClientBuilder;
 
+    // The cache only stores completed results; concurrent misses share one in-flight request instead
+    private final SingleFlight<URI, ExternalRecipeResponse> inFlightRequests = new SingleFlight<>();
+
     @Value("${recipes.external.api.url}")
     private String apiUrl;
 
@@ -33,18 +44,50 @@ public class ExternalRecipeClient {
     @Value("${recipes.external.api.retry.max-attempts:3}")
     private int maxRetryAttempts;
 
+    @Value("${recipes.external.api.page-buffer-size:1MB}")
+    private DataSize pageBufferSize;
+
     @CircuitBreaker(name = "recipeService", fallbackMethod = "fallbackGetRecipes")
     @Retry(name = "recipeService")
     @TimeLimiter(name = "recipeService")
-    @Cacheable(value = "recipes", unless = "#result.recipes.isEmpty()")
+    @Cacheable(value = CacheConfig.EXTERNAL_RECIPES, unless = "#result.recipes.isEmpty()")
     public CompletableFuture<ExternalRecipeResponse> fetchAllRecipes() {
-        log.info("Fetching recipes from external API: {}", apiUrl);
+        URI uri = URI.create(apiUrl);
+        return inFlightRequests.execute(uri, () -> {
+            log.info("Fetching recipes from external API: {}", apiUrl);
+            return retrieve(uri, 10 * 1024 * 1024)
+                    .doOnSuccess(response -> log.info("Successfully fetched {} recipes",
+                            response.getRecipes() != null ? response.getRecipes().size() : 0))
+                    .toFuture();
+        });
+    }
+
+    /**
+     * Fetch a single page of the external catalog. Only the fields we persist are requested,
+     * and the decode buffer is sized for one page so memory stays bounded however large the
+     * catalog grows.
+     */
+    @CircuitBreaker(name = "recipeService", fallbackMethod = "fallbackGetRecipePage")
+    @Retry(name = "recipeService")
+    @TimeLimiter(name = "recipeService")
+    public CompletableFuture<ExternalRecipeResponse> fetchRecipePage(int skip, int limit) {
+        URI uri = UriComponentsBuilder.fromUriString(apiUrl)
+                .queryParam("skip", skip)
+                .queryParam("limit", limit)
+                .queryParam("select", PAGE_FIELDS)
+                .build()
+                .toUri();
+        log.debug("Fetching recipe page from external API: {}", uri);
+
+        return inFlightRequests.execute(uri, () -> retrieve(uri, (int) pageBufferSize.toBytes()).toFuture());
+    }
 
-        return webClientBuilder
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+    private Mono<ExternalRecipeResponse> retrieve(URI uri, int maxInMemorySize) {
+        return webClientBuilder.clone()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
                 .build()
                 .get()
-                .uri(apiUrl)
+                .uri(uri)
                 .retrieve()
                 .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
                         response -> response.bodyToMono(String.class)
@@ -53,13 +96,10 @@ public class ExternalRecipeClient {
                 .retryWhen(reactor.util.retry.Retry.backoff(maxRetryAttempts, Duration.ofSeconds(1))
                         .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest)))
                 .timeout(timeout)
-                .doOnSuccess(response -> log.info("Successfully fetched {} recipes",
-                        response.getRecipes() != null ? response.getRecipes().size() : 0))
-                .doOnError(error -> log.error("Error fetching recipes: {}", error.getMessage()))
-                .toFuture();
+                .doOnError(error -> log.error("Error fetching recipes from {}: {}", uri, error.getMessage()));
     }
 
-    @CacheEvict(value = "recipes", allEntries = true)
+    @CacheEvict(value = CacheConfig.EXTERNAL_RECIPES, allEntries = true)
     public void clearRecipeCache() {
         log.info("Recipe cache cleared");
     }
@@ -71,4 +111,14 @@ public class ExternalRecipeClient {
         fallbackResponse.setTotal(0);
         return CompletableFuture.completedFuture(fallbackResponse);
     }
+
+    /**
+     * Fail the page rather than answer with an empty one: ingestion reads an empty page as the end of
+     * the catalog, so an open circuit or a timeout must not look like a short catalog.
+     */
+    public CompletableFuture<ExternalRecipeResponse> fallbackGetRecipePage(int skip, int limit, Exception ex) {
+        log.warn("Circuit breaker activated while fetching page skip={} limit={}: {}", skip, limit, ex.getMessage());
+        return CompletableFuture.failedFuture(new ExternalApiUnavailableException(
+                "External recipe API unavailable for page skip=" + skip + " limit=" + limit + ": " + ex.getMessage(), ex));
+    }
 }
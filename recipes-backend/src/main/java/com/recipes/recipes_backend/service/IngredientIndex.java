@@ -0,0 +1,221 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.PantryMatch;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable inverted index from ingredients to the recipes that use them. Every distinct normalized
+ * ingredient gets a dense id in the ingredient dictionary, each ingredient holds a compressed bitmap of
+ * recipes and each word a bitmap of ingredient ids, so matching a pantry takes a few bitmap
+ * intersections and unions instead of a scan over {@code recipe_ingredients}. Recipes are numbered
+ * densely when the index is built, which keeps the bitmaps compact and per-recipe data in arrays.
+ */
+final class IngredientIndex {
+
+    static final IngredientIndex EMPTY = build(Map.of());
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String[] ingredients;
+    private final RoaringBitmap[] recipesByIngredient;
+    private final Map<String, RoaringBitmap> ingredientsByWord;
+    private final long[] recipeIds;
+    private final String[] recipeNames;
+    private final int[][] recipeIngredients;
+
+    private IngredientIndex(String[] ingredients, RoaringBitmap[] recipesByIngredient,
+                            Map<String, RoaringBitmap> ingredientsByWord, long[] recipeIds, String[] recipeNames,
+                            int[][] recipeIngredients) {
+        this.ingredients = ingredients;
+        this.recipesByIngredient = recipesByIngredient;
+        this.ingredientsByWord = ingredientsByWord;
+        this.recipeIds = recipeIds;
+        this.recipeNames = recipeNames;
+        this.recipeIngredients = recipeIngredients;
+    }
+
+    /**
+     * @param recipes recipes by id
+     */
+    static IngredientIndex build(Map<Long, RecipeIngredients> recipes) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> texts = new ArrayList<>();
+        List<RoaringBitmap> postings = new ArrayList<>();
+        long[] recipeIds = new long[recipes.size()];
+        String[] recipeNames = new String[recipes.size()];
+        int[][] recipeIngredients = new int[recipes.size()][];
+
+        int recipe = 0;
+        for (Map.Entry<Long, RecipeIngredients> entry : recipes.entrySet()) {
+            RoaringBitmap ingredientIds = new RoaringBitmap();
+            for (String ingredient : entry.getValue().ingredients()) {
+                String key = SuggestionIndex.normalize(ingredient);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                Integer id = dictionary.get(key);
+                if (id == null) {
+                    id = texts.size();
+                    dictionary.put(key, id);
+                    texts.add(ingredient.trim());
+                    postings.add(new RoaringBitmap());
+                }
+                postings.get(id).add(recipe);
+                ingredientIds.add(id);
+            }
+            recipeIds[recipe] = entry.getKey();
+            recipeNames[recipe] = entry.getValue().name();
+            recipeIngredients[recipe] = ingredientIds.toArray();
+            recipe++;
+        }
+
+        Map<String, RoaringBitmap> ingredientsByWord = new HashMap<>();
+        dictionary.forEach((key, id) -> {
+            for (String word : words(key)) {
+                ingredientsByWord.computeIfAbsent(word, w -> new RoaringBitmap()).add(id);
+            }
+        });
+        postings.forEach(RoaringBitmap::runOptimize);
+        ingredientsByWord.values().forEach(RoaringBitmap::runOptimize);
+
+        return new IngredientIndex(texts.toArray(String[]::new), postings.toArray(RoaringBitmap[]::new),
+                ingredientsByWord, recipeIds, recipeNames, recipeIngredients);
+    }
+
+    /**
+     * Rank the recipes sharing at least one ingredient with the pantry by the share of their ingredients
+     * the pantry covers, then by the number covered. A pantry item covers every ingredient containing
+     * all of its words, so "basil" covers "Fresh basil leaves".
+     *
+     * @param pantry ingredients at hand
+     * @param limit  maximum number of recipes
+     * @return best matches first
+     */
+    List<PantryMatch> match(Collection<String> pantry, int limit) {
+        RoaringBitmap available = new RoaringBitmap();
+        for (String item : pantry) {
+            available.or(ingredientsMatching(item));
+        }
+        if (available.isEmpty()) {
+            return List.of();
+        }
+
+        RoaringBitmap[] postings = new RoaringBitmap[available.getCardinality()];
+        int next = 0;
+        for (int ingredientId : available.toArray()) {
+            postings[next++] = recipesByIngredient[ingredientId];
+        }
+        // Covered counts are kept per candidate, not per recipe, so a query costs in proportion to the
+        // recipes it touches rather than the catalog
+        int[] candidates = FastAggregation.or(postings).toArray();
+        int[] covered = new int[candidates.length];
+        for (RoaringBitmap posting : postings) {
+            // Every posting is a subset of the candidates and both are ascending, so one forward pass finds them
+            PeekableIntIterator recipes = posting.getIntIterator();
+            int candidate = 0;
+            while (recipes.hasNext()) {
+                int recipe = recipes.next();
+                while (candidates[candidate] < recipe) {
+                    candidate++;
+                }
+                covered[candidate]++;
+            }
+        }
+
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, (a, b) -> compare(candidates, covered, a, b));
+        for (int candidate = 0; candidate < candidates.length; candidate++) {
+            if (top.size() < limit) {
+                top.offer(candidate);
+            } else if (compare(candidates, covered, candidate, top.peek()) > 0) {
+                top.poll();
+                top.offer(candidate);
+            }
+        }
+
+        PantryMatch[] result = new PantryMatch[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int candidate = top.poll();
+            result[i] = toMatch(candidates[candidate], covered[candidate], available);
+        }
+        return List.of(result);
+    }
+
+    int size() {
+        return ingredients.length;
+    }
+
+    /**
+     * Order of two candidates by share of ingredients covered, then by number covered, then lower id first.
+     */
+    private int compare(int[] candidates, int[] covered, int a, int b) {
+        long shareA = (long) covered[a] * recipeIngredients[candidates[b]].length;
+        long shareB = (long) covered[b] * recipeIngredients[candidates[a]].length;
+        if (shareA != shareB) {
+            return Long.compare(shareA, shareB);
+        }
+        if (covered[a] != covered[b]) {
+            return Integer.compare(covered[a], covered[b]);
+        }
+        return Long.compare(recipeIds[candidates[b]], recipeIds[candidates[a]]);
+    }
+
+    private RoaringBitmap ingredientsMatching(String item) {
+        List<String> words = words(SuggestionIndex.normalize(item));
+        if (words.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap[] bitmaps = new RoaringBitmap[words.size()];
+        for (int i = 0; i < bitmaps.length; i++) {
+            bitmaps[i] = ingredientsByWord.get(words.get(i));
+            if (bitmaps[i] == null) {
+                return new RoaringBitmap();
+            }
+        }
+        return bitmaps.length == 1 ? bitmaps[0] : FastAggregation.and(bitmaps);
+    }
+
+    private PantryMatch toMatch(int recipe, int covered, RoaringBitmap available) {
+        List<String> missing = new ArrayList<>();
+        for (int ingredientId : recipeIngredients[recipe]) {
+            if (!available.contains(ingredientId)) {
+                missing.add(ingredients[ingredientId]);
+            }
+        }
+        return PantryMatch.builder()
+                .recipeId(recipeIds[recipe])
+                .name(recipeNames[recipe])
+                .matchedIngredients(covered)
+                .totalIngredients(recipeIngredients[recipe].length)
+                .missingIngredients(missing)
+                .build();
+    }
+
+    /**
+     * Split normalized text into words with a naive plural folding ("tomatoes" and "eggs" match "tomato"
+     * and "egg"). Ingredients and pantry items go through the same folding, so it only has to be consistent.
+     */
+    private static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>(4);
+        for (String word : NON_WORD.split(normalized)) {
+            if (word.endsWith("oes")) {
+                word = word.substring(0, word.length() - 2);
+            } else if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+                word = word.substring(0, word.length() - 1);
+            }
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,95 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.PantryMatch;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import com.recipes.recipes_backend.event.RecipesSyncedEvent;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class IngredientMatchService {
+
+    private final RecipeRepository recipeRepository;
+
+    private final Map<Long, RecipeIngredients> recipes = new HashMap<>();
+    private boolean changed;
+    private volatile IngredientIndex index = IngredientIndex.EMPTY;
+
+    /**
+     * Find the recipes that can best be cooked from the given pantry, from the in-memory ingredient
+     * bitmaps. Lookups never touch Hibernate or the database.
+     *
+     * @param pantry ingredients at hand
+     * @param limit  maximum number of recipes
+     * @return CustomResponse<List<PantryMatch>>
+     */
+    public CustomResponse<List<PantryMatch>> match(List<String> pantry, int limit) {
+        List<PantryMatch> matches = index.match(pantry, limit);
+        return CustomResponse.success(matches, "Matching recipes retrieved successfully");
+    }
+
+    /**
+     * Build the index from the recipes already in the database, using scalar queries so no entities
+     * are loaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildFromDatabase() {
+        recipes.clear();
+        recipeRepository.findAllNames().forEach(name ->
+                recipes.put(name.recipeId(), new RecipeIngredients(name.text(), new ArrayList<>())));
+        recipeRepository.findAllIngredients().forEach(ingredient -> {
+            RecipeIngredients recipe = recipes.get(ingredient.recipeId());
+            if (recipe != null) {
+                recipe.ingredients().add(ingredient.text());
+            }
+        });
+        publish();
+    }
+
+    /**
+     * Replace the ingredients of changed recipes and drop removed ones. The index itself is only rebuilt
+     * once the sync writing these changes has finished.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRecipesChanged(RecipesChangedEvent event) {
+        for (Recipe recipe : event.recipes()) {
+            List<String> ingredients = recipe.getIngredients() == null ? List.of() : List.copyOf(recipe.getIngredients());
+            recipes.put(recipe.getId(), new RecipeIngredients(recipe.getName(), ingredients));
+        }
+        event.removedIds().forEach(recipes::remove);
+        changed = true;
+    }
+
+    /**
+     * Swap in an index rebuilt from the collected recipes, so a sync costs one rebuild however many
+     * pages it wrote. Readers keep using the previous index until the swap.
+     */
+    @EventListener(RecipesSyncedEvent.class)
+    public synchronized void onRecipesSynced() {
+        if (changed) {
+            publish();
+        }
+    }
+
+    private void publish() {
+        long start = System.nanoTime();
+        index = IngredientIndex.build(recipes);
+        changed = false;
+        log.debug("Ingredient index rebuilt with {} ingredients over {} recipes in {} ms",
+                index.size(), recipes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
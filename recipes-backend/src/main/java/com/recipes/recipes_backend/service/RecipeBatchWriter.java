@@ -0,0 +1,130 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import com.recipes.recipes_backend.mapper.RecipeMapper;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.repository.TermDictionaries;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class RecipeBatchWriter {
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeRepository recipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final TermDictionaries termDictionaries;
+
+    @Value("${recipes.ingestion.batch-size:20}")
+    private int batchSize;
+
+    /**
+     * Persist recipes in fixed-size chunks, flushing and clearing the persistence context after
+     * each chunk so JDBC batching kicks in and the session never holds more than one chunk. Tags and
+     * ingredients of the whole batch are resolved to dictionary ids up front.
+     *
+     * @param recipes recipes to insert
+     * @return number of recipes written
+     */
+    @Transactional
+    public int writeAll(List<Recipe> recipes) {
+        termDictionaries.resolveAll(recipes);
+        persistAll(recipes);
+        eventPublisher.publishEvent(new RecipesChangedEvent(recipes));
+
+        log.debug("Wrote {} recipes in batches of {}", recipes.size(), batchSize);
+        return recipes.size();
+    }
+
+    /**
+     * Insert new and update changed recipes of one external page, matched on their external id. The
+     * stored content hashes are read with a single projection query; recipes whose hash did not change
+     * are neither mapped nor loaded, so an unchanged page costs one query and no writes.
+     *
+     * @param dtos recipes of one external page
+     * @return number of recipes inserted and updated
+     */
+    @Transactional
+    public UpsertResult upsertAll(List<ExternalRecipeDto> dtos) {
+        Map<Long, String> storedHashes = new HashMap<>();
+        recipeRepository.findContentHashes(dtos.stream().map(ExternalRecipeDto::getId).toList())
+                .forEach(stored -> storedHashes.put(stored.externalId(), stored.contentHash()));
+
+        List<Recipe> inserted = new ArrayList<>();
+        Map<Long, ExternalRecipeDto> changed = new HashMap<>();
+        for (ExternalRecipeDto dto : dtos) {
+            if (!storedHashes.containsKey(dto.getId())) {
+                inserted.add(recipeMapper.toEntity(dto));
+            } else if (!recipeMapper.contentHash(dto).equals(storedHashes.get(dto.getId()))) {
+                changed.put(dto.getId(), dto);
+            }
+        }
+
+        List<Recipe> updated = changed.isEmpty() ? List.of() : recipeRepository.findByExternalIdIn(changed.keySet());
+        updated.forEach(recipe -> recipeMapper.updateEntity(recipe, changed.get(recipe.getExternalId())));
+
+        List<Recipe> touched = new ArrayList<>(inserted);
+        touched.addAll(updated);
+        termDictionaries.resolveAll(touched);
+        persistAll(inserted);
+
+        if (!touched.isEmpty()) {
+            eventPublisher.publishEvent(new RecipesChangedEvent(touched));
+        }
+        log.debug("Upserted page of {} recipes: {} inserted, {} updated", dtos.size(), inserted.size(), updated.size());
+        return new UpsertResult(inserted.size(), updated.size());
+    }
+
+    /**
+     * Delete recipes by external id. Entities are removed one by one so their collections and search
+     * documents go with them.
+     *
+     * @param externalIds external ids of recipes that no longer exist upstream
+     * @return number of recipes deleted
+     */
+    @Transactional
+    public int removeAll(Collection<Long> externalIds) {
+        List<Recipe> recipes = recipeRepository.findByExternalIdIn(externalIds);
+        List<Long> removedIds = recipes.stream().map(Recipe::getId).toList();
+        recipes.forEach(entityManager::remove);
+        flushAndClear();
+        eventPublisher.publishEvent(new RecipesChangedEvent(List.of(), removedIds));
+
+        log.debug("Removed {} recipes", removedIds.size());
+        return removedIds.size();
+    }
+
+    private void persistAll(List<Recipe> recipes) {
+        for (int i = 0; i < recipes.size(); i++) {
+            entityManager.persist(recipes.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    public record UpsertResult(int inserted, int updated) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the URL-safe Base64 encoding of the last id a client has seen.
+ */
+final class RecipeCursor {
+
+    private static final String PREFIX = "id:";
+
+    private RecipeCursor() {
+    }
+
+    static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.dto.response.ExternalRecipeResponse;
+import com.recipes.recipes_backend.dto.response.SyncReport;
+import com.recipes.recipes_backend.event.RecipesSyncedEvent;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class RecipeIngestionService {
+
+    private final ExternalRecipeClient externalRecipeClient;
+    private final RecipeBatchWriter recipeBatchWriter;
+    private final RecipeRepository recipeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${recipes.ingestion.page-size:50}")
+    private int pageSize;
+
+    /**
+     * Bring the database in line with the external catalog. The catalog is streamed page by page and
+     * each page is upserted on the external id, writing only new and changed recipes; search documents
+     * and caches are refreshed for exactly those recipes. Recipes that were not seen upstream are deleted,
+     * but only when every page was fetched, so an API failure or a cancellation never empties the catalog.
+     * Pages are read by offset from a live catalog, so an upstream insert or delete during the run shifts
+     * later pages and can hide recipes from it; removals therefore also require the reported total to stay
+     * the same on every page and exactly that many distinct recipes to have been seen. Otherwise the run
+     * is incomplete and the next one catches up.
+     * A page the external API fails to deliver stops the run and is recorded as its failure; an empty
+     * page only ever means the end of the catalog. Each page is committed on its own, so a stopped run
+     * leaves the pages it wrote in place. A
+     * {@link RecipesSyncedEvent} is published once the run stops.
+     *
+     * @param progress notified after each page and polled for cancellation
+     * @return counts of fetched, inserted, updated, unchanged and removed recipes
+     */
+    public synchronized SyncReport synchronize(SyncProgress progress) {
+        long startedAt = System.nanoTime();
+        Set<Long> seen = new HashSet<>();
+        int skip = 0;
+        int pages = 0;
+        int total = 0;
+        boolean totalChanged = false;
+        int inserted = 0;
+        int updated = 0;
+        String failure = null;
+
+        while (!progress.isCancelled()) {
+            long pageStartedAt = System.nanoTime();
+            ExternalRecipeResponse response;
+            try {
+                response = externalRecipeClient.fetchRecipePage(skip, pageSize).join();
+            } catch (CompletionException e) {
+                failure = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                log.error("Sync stopped at recipe {}: {}", skip, failure);
+                break;
+            }
+            List<ExternalRecipeDto> dtos = response.getRecipes();
+            if (dtos == null || dtos.isEmpty()) {
+                break;
+            }
+            long fetchedAt = System.nanoTime();
+
+            RecipeBatchWriter.UpsertResult result = recipeBatchWriter.upsertAll(dtos);
+            dtos.forEach(dto -> seen.add(dto.getId()));
+            inserted += result.inserted();
+            updated += result.updated();
+            if (pages > 0 && response.getTotal() != total) {
+                log.warn("External catalog changed during sync: total went from {} to {}", total, response.getTotal());
+                totalChanged = true;
+            }
+            total = response.getTotal();
+            pages++;
+            skip += dtos.size();
+            progress.onPage(dtos.size(), total, result);
+
+            long writtenAt = System.nanoTime();
+            log.info("Synced page {} ({} recipes, {}/{}): {} inserted, {} updated, fetch {} ms, write {} ms, {} recipes/s",
+                    pages, dtos.size(), skip, total, result.inserted(), result.updated(),
+                    TimeUnit.NANOSECONDS.toMillis(fetchedAt - pageStartedAt),
+                    TimeUnit.NANOSECONDS.toMillis(writtenAt - fetchedAt),
+                    throughput(dtos.size(), writtenAt - pageStartedAt));
+
+            if (skip >= total) {
+                break;
+            }
+        }
+
+        boolean complete = failure == null && !progress.isCancelled() && !totalChanged
+                && !seen.isEmpty() && seen.size() == total && skip >= total;
+        int removed = 0;
+        if (complete) {
+            List<Long> gone = recipeRepository.findAllExternalIds().stream()
+                    .filter(externalId -> !seen.contains(externalId))
+                    .toList();
+            if (!gone.isEmpty()) {
+                removed = recipeBatchWriter.removeAll(gone);
+                progress.onRemoved(removed);
+            }
+        } else {
+            log.warn("Sync saw {} of {} external recipes, skipping removals", seen.size(), total);
+        }
+
+        SyncReport report = new SyncReport(skip, inserted, updated, skip - inserted - updated, removed, complete,
+                failure);
+        long elapsed = System.nanoTime() - startedAt;
+        log.info("Sync finished in {} pages, {} ms: {}", pages, TimeUnit.NANOSECONDS.toMillis(elapsed), report);
+        eventPublisher.publishEvent(new RecipesSyncedEvent(report));
+        return report;
+    }
+
+    private static long throughput(int count, long elapsedNanos) {
+        return elapsedNanos > 0 ? count * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : count;
+    }
+}
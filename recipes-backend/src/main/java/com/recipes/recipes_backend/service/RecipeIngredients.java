@@ -0,0 +1,9 @@
+package com.recipes.recipes_backend.service;
+
+import java.util.List;
+
+/**
+ * A recipe's name and ingredients as indexed for pantry matching.
+ */
+record RecipeIngredients(String name, List<String> ingredients) {
+}
@@ -0,0 +1,108 @@
+package com.recipes.recipes_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.RecipePayload;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class RecipePayloadService {
+
+    private final RecipeService recipeService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+
+    @Value("${recipes.payload.gzip-min-bytes:512}")
+    private int gzipMinBytes;
+
+    /**
+     * Return the serialized {@code GET /api/recipes/{id}} response. A cached payload is returned as is,
+     * so repeated reads skip the service layer, Jackson and compression entirely; its timestamp is the
+     * time the payload was built. Concurrent misses for the same id share a single load.
+     * <p>
+     * Payloads are keyed by the catalog snapshot generation as well as the id. A sync evicts payloads per
+     * committed page, but in snapshot mode a read during the sync still serializes the previous snapshot;
+     * once the new snapshot is published those payloads sit under the old generation and are never read
+     * again. The generation is read before the load, so a key never holds data older than its snapshot.
+     *
+     * @param id recipe id
+     * @return serialized response with its entity tag
+     */
+    public RecipePayload findById(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.RECIPE_PAYLOADS);
+        try {
+            return cache.get(new PayloadKey(catalogSnapshotService.generation(), id),
+                    () -> serialize(recipeService.findById(id)));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drop the payloads and cached entities of changed and removed recipes once their transaction has
+     * committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipesChanged(RecipesChangedEvent event) {
+        event.recipes().forEach(recipe -> evict(recipe.getId()));
+        event.removedIds().forEach(this::evict);
+    }
+
+    private void evict(Long id) {
+        cacheManager.getCache(CacheConfig.RECIPE_PAYLOADS).evict(new PayloadKey(catalogSnapshotService.generation(), id));
+        cacheManager.getCache(CacheConfig.RECIPE_BY_ID).evict(id);
+    }
+
+    /**
+     * The entity tag is derived from the recipe alone, not the whole envelope: the envelope carries the
+     * build timestamp, so a rebuilt payload of an unchanged recipe keeps its tag and still answers 304.
+     * Bodies with the same tag can differ in that timestamp, which makes the tag weak.
+     */
+    RecipePayload serialize(CustomResponse<Recipe> response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            String etag = "W/\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(response.getData())) + "\"";
+            return new RecipePayload(etag, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize recipe " + response.getData().getId(), e);
+        }
+    }
+
+    private record PayloadKey(long generation, Long id) {
+    }
+
+    private byte[] gzip(byte[] json) {
+        if (json.length < gzipMinBytes) {
+            return null;
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.size() < json.length ? compressed.toByteArray() : null;
+    }
+}
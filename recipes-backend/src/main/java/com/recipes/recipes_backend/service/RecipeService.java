@@ -1,18 +1,33 @@
 package com.recipes.recipes_backend.service;
 
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.request.RecipeFacetSearchRequest;
 import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
 import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.dto.response.RecipeBatch;
+import com.recipes.recipes_backend.dto.response.RecipePage;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
 import com.recipes.recipes_backend.entity.Recipe;
 import com.recipes.recipes_backend.exception.RecipeNotFoundException;
 import com.recipes.recipes_backend.repository.RecipeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
@@ -20,73 +35,177 @@ import java.util.List;
 public class RecipeService {
 
     private final RecipeRepository recipeRepository;
-    private final ExternalRecipeClient externalRecipeClient;
     private final SearchService searchService;
-    private final ModelMapper modelMapper;
+    private final CacheManager cacheManager;
+    private final CatalogSnapshotService catalogSnapshotService;
 
-    @Transactional
-    public CustomResponse<String> loadRecipesFromExternalApi() {
-        log.info("Starting to load recipes from external API");
+    @Transactional(readOnly = true)
+    public CustomResponse<SearchPage<Recipe>> searchRecipes(RecipeSearchRequest request) {
+        log.info("Searching recipes with query: {}", request.getQuery());
 
-        if (recipeRepository.count() > 0) {
-            log.info("Recipes already loaded, skipping");
-            return CustomResponse.success("Recipes already loaded", "Success");
+        if (request.getQuery().trim().length() < 3) {
+            return CustomResponse.success(SearchPage.empty(request.getOffset(), request.getSize()),
+                    "Query too short - minimum 3 characters required");
         }
 
-        externalRecipeClient.fetchAllRecipes()
-                .thenAccept(response -> {
-                    List<Recipe> recipes = response.getRecipes().stream()
-                            .map(dto -> {
-                                Recipe recipe = modelMapper.map(dto, Recipe.class);
-                                recipe.setId(null); // Clear ID to let database generate new ones
-                                return recipe;
-                            })
-                            .toList();
-
-                    recipeRepository.saveAll(recipes);
-                    searchService.indexAllRecipes();
-
-                    log.info("Successfully loaded {} recipes", recipes.size());
-                })
-                .exceptionally(error -> {
-                    log.error("Failed to load recipes: {}", error.getMessage());
-                    return null;
-                });
-
-        return CustomResponse.success("Recipe loading initiated successfully", "Success");
+        SearchPage<Recipe> page = searchService.searchRecipes(request);
+        return CustomResponse.success(page, "Search completed successfully");
     }
 
-    @Transactional(readOnly = true)
-    public CustomResponse<List<Recipe>> searchRecipes(RecipeSearchRequest request) {
-        log.info("Searching recipes with query: {}", request.getQuery());
+    /**
+     * Same matching and paging as {@link #searchRecipes}, but hits are projected from the index into
+     * summaries and no entity is loaded. Deliberately not transactional, so the request never borrows
+     * a connection.
+     */
+    public CustomResponse<SearchPage<RecipeSummary>> searchRecipeSummaries(RecipeSearchRequest request) {
+        log.info("Searching recipe summaries with query: {}", request.getQuery());
+
+        if (request.getQuery().trim().length() < 3) {
+            return CustomResponse.success(SearchPage.empty(request.getOffset(), request.getSize()),
+                    "Query too short - minimum 3 characters required");
+        }
+
+        SearchPage<RecipeSummary> page = searchService.searchRecipeSummaries(request);
+        return CustomResponse.success(page, "Search completed successfully");
+    }
+
+    /**
+     * Top hits plus cuisine, tag and cook time facet counts, all read from the index in one query. Like
+     * {@link #searchRecipeSummaries} it loads no entity and is deliberately not transactional.
+     */
+    public CustomResponse<FacetedSearchResult> searchRecipeFacets(RecipeFacetSearchRequest request) {
+        log.info("Searching recipe facets with query: {}", request.getQuery());
 
         String query = request.getQuery().trim();
         if (query.length() < 3) {
-            return CustomResponse.success(List.of(), "Query too short - minimum 3 characters required");
+            return CustomResponse.success(
+                    new FacetedSearchResult(0, List.of(), Map.of(), Map.of(), Map.of()),
+                    "Query too short - minimum 3 characters required");
         }
 
-        List<Recipe> recipes = searchService.searchRecipes(query);
-        return CustomResponse.success(recipes, "Search completed successfully");
+        String cuisine = request.getCuisine() == null || request.getCuisine().isBlank() ? null : request.getCuisine();
+        List<String> tags = request.getTags() == null ? List.of() : request.getTags();
+        FacetedSearchResult result = searchService.searchRecipeFacets(query, cuisine, tags, request.getLimit());
+        return CustomResponse.success(result, "Search completed successfully");
     }
 
-    @Cacheable("recipes")
-    @Transactional(readOnly = true)
+    /**
+     * Synchronized caching: concurrent misses for the same id wait for a single load instead of each
+     * querying the database. In snapshot mode the recipe comes from the catalog snapshot and is not
+     * cached. Not transactional itself, so a snapshot read never borrows a connection.
+     */
+    @Cacheable(value = CacheConfig.RECIPE_BY_ID, sync = true, condition = "!@catalogSnapshotService.serving")
     public CustomResponse<Recipe> findById(Long id) {
         log.info("Finding recipe by id: {}", id);
-        Recipe recipe = recipeRepository.findById(id)
+        Optional<Recipe> recipe = catalogSnapshotService.isServing()
+                ? catalogSnapshotService.findById(id)
+                : searchService.findAllInOrder(List.of(id)).stream().findFirst();
+        return recipe
+                .map(found -> CustomResponse.success(found, "Recipe retrieved successfully"))
                 .orElseThrow(() -> new RecipeNotFoundException("Recipe not found with id: " + id));
-        return CustomResponse.success(recipe, "Recipe retrieved successfully");
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Resolve many recipes in one call. Ids already in the by-id cache are served from it; the rest are
+     * loaded with one IN query plus one fetch query per collection and cached for later reads. Recipes
+     * come back in the order of the requested ids, duplicates collapsed, and unknown ids are reported as
+     * missing. Not transactional itself, so a batch served entirely from cache never borrows a connection.
+     *
+     * @param ids recipe ids in the order the caller wants them
+     * @return CustomResponse<RecipeBatch>
+     */
+    public CustomResponse<RecipeBatch> findAllById(List<Long> ids) {
+        if (catalogSnapshotService.isServing()) {
+            return CustomResponse.success(findAllInSnapshot(ids), "Recipes retrieved successfully");
+        }
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.RECIPE_BY_ID));
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+
+        Map<Long, Recipe> recipesById = new HashMap<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            CustomResponse<?> cached = cache.get(id, CustomResponse.class);
+            if (cached != null) {
+                recipesById.put(id, (Recipe) cached.getData());
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+        if (!uncachedIds.isEmpty()) {
+            for (Recipe recipe : searchService.findAllInOrder(uncachedIds)) {
+                recipesById.put(recipe.getId(), recipe);
+                cache.putIfAbsent(recipe.getId(), CustomResponse.success(recipe, "Recipe retrieved successfully"));
+            }
+        }
+
+        List<Recipe> recipes = new ArrayList<>(recipesById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Recipe recipe = recipesById.get(id);
+            if (recipe != null) {
+                recipes.add(recipe);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        log.info("Found {} of {} recipes, {} from cache", recipes.size(), distinctIds.size(),
+                distinctIds.size() - uncachedIds.size());
+
+        RecipeBatch batch = RecipeBatch.builder()
+                .recipes(recipes)
+                .missingIds(missingIds)
+                .build();
+        return CustomResponse.success(batch, "Recipes retrieved successfully");
+    }
+
     public CustomResponse<List<Recipe>> findAll() {
         log.info("Finding all recipes");
 
-        // Use search service which handles lazy loading
-        List<Recipe> recipes = searchService.getAllRecipesWithInitializedCollections();
+        List<Recipe> recipes = catalogSnapshotService.isServing()
+                ? catalogSnapshotService.findAll()
+                : searchService.getAllRecipesWithInitializedCollections();
 
         return CustomResponse.success(recipes, "All recipes retrieved successfully");
     }
 
+    /**
+     * Keyset pagination over recipe ids. Each page seeks past the id encoded in the cursor, so the
+     * cost of a page does not depend on how deep into the catalog the client is.
+     *
+     * @param cursor opaque cursor returned with the previous page, or null for the first page
+     * @param size   maximum number of recipes in the page
+     * @return CustomResponse<RecipePage>
+     */
+    @Transactional(readOnly = true)
+    public CustomResponse<RecipePage> findPage(String cursor, int size) {
+        long afterId = RecipeCursor.decode(cursor);
+        log.info("Finding recipe page after id {} with size {}", afterId, size);
+
+        List<Recipe> recipes = recipeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        boolean hasMore = recipes.size() > size;
+        if (hasMore) {
+            recipes = recipes.subList(0, size);
+        }
+        searchService.fetchCollections(recipes);
+
+        RecipePage page = RecipePage.builder()
+                .recipes(recipes)
+                .size(recipes.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? RecipeCursor.encode(recipes.get(recipes.size() - 1).getId()) : null)
+                .build();
+        return CustomResponse.success(page, "Recipe page retrieved successfully");
+    }
 
+    private RecipeBatch findAllInSnapshot(List<Long> ids) {
+        List<Recipe> recipes = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            catalogSnapshotService.findById(id).ifPresentOrElse(recipes::add, () -> missingIds.add(id));
+        }
+        return RecipeBatch.builder()
+                .recipes(recipes)
+                .missingIds(missingIds)
+                .build();
+    }
 }
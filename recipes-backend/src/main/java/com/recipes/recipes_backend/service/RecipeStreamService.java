@@ -0,0 +1,60 @@
+package com.recipes.recipes_backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.recipes.recipes_backend.dto.response.RecipePage;
+import com.recipes.recipes_backend.entity.Recipe;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class RecipeStreamService {
+
+    private final RecipeService recipeService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${recipes.stream.chunk-size:100}")
+    private int chunkSize;
+
+    /**
+     * Write every recipe to the given stream as newline-delimited JSON. Recipes are read in keyset
+     * chunks, each in its own short read-only transaction, and flushed to the client before the next
+     * chunk is loaded, so memory per request stays flat and no connection is held while the client reads.
+     *
+     * @param out response body stream
+     * @return number of recipes written
+     */
+    public long writeAll(OutputStream out) throws IOException {
+        long written = 0;
+        String cursor = null;
+
+        ObjectWriter writer = objectMapper.writerFor(Recipe.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            do {
+                RecipePage page = recipeService.findPage(cursor, chunkSize).getData();
+                for (Recipe recipe : page.getRecipes()) {
+                    writer.writeValue(generator, recipe);
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+                written += page.getSize();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+        }
+
+        log.info("Streamed {} recipes", written);
+        return written;
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter that advances whenever the search index content changes. Cached search results
+ * are keyed on the generation they were computed in, so a change makes every older entry unreachable
+ * without racing against searches that are still in flight.
+ */
+@Component
+@Slf4j
+public class SearchIndexGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public long current() {
+        return generation.get();
+    }
+
+    public long advance() {
+        long next = generation.incrementAndGet();
+        log.debug("Search index generation advanced to {}", next);
+        return next;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipesChanged(RecipesChangedEvent event) {
+        advance();
+    }
+}
@@ -0,0 +1,30 @@
+package com.recipes.recipes_backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class SearchIndexInitializer {
+
+    private final SearchService searchService;
+
+    /**
+     * The index is persisted across restarts, so a full mass index is only needed when it has drifted
+     * from the database (first start, a wiped index directory, or a database that was reset).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndex() {
+        if (searchService.isIndexInSync()) {
+            log.info("Search index is in sync with the database, skipping reindex");
+            return;
+        }
+
+        log.info("Search index is out of sync with the database, rebuilding");
+        searchService.indexAllRecipes();
+    }
+}
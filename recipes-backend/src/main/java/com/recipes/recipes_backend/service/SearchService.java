@@ -1,43 +1,227 @@
 package com.recipes.recipes_backend.service;
 
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
+import com.recipes.recipes_backend.dto.request.RecipeSearchSort;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
 import com.recipes.recipes_backend.entity.Recipe;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.Hibernate;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.projection.dsl.ProjectionFinalStep;
+import org.hibernate.search.engine.search.projection.dsl.SearchProjectionFactory;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.util.common.data.Range;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class SearchService {
 
+    private static final List<String> COLLECTIONS = List.of("ingredients", "instructions", "tags");
+    private static final int MAX_IN_LIST = 1_000;
+    private static final String SEARCH_OBSERVATION = "recipes.search";
+    private static final List<Range<Integer>> COOK_TIME_RANGES = List.of(
+            Range.canonical(0, 15), Range.canonical(15, 30), Range.canonical(30, 60), Range.atLeast(60));
+    private static final AggregationKey<Map<String, Long>> CUISINE_FACET = AggregationKey.of("cuisine");
+    private static final AggregationKey<Map<String, Long>> TAG_FACET = AggregationKey.of("tags");
+    private static final AggregationKey<Map<Range<Integer>, Long>> COOK_TIME_FACET = AggregationKey.of("cookTime");
+
     private final EntityManager entityManager;
+    private final SearchIndexGeneration searchIndexGeneration;
+    private final CacheManager cacheManager;
+    private final ObservationRegistry observationRegistry;
+
+    @Value("${recipes.search.facet-size:20}")
+    private int facetSize;
 
+    @Value("${recipes.search.total-hit-count-threshold:1000}")
+    private int totalHitCountThreshold;
+
+    /**
+     * Search recipes by name or cuisine and return one page of hits. Only the requested page is collected
+     * and hits are counted up to a threshold, so cost follows page size rather than match count. Hit ids
+     * are cached per normalized query, page, sort and index generation, so repeated queries skip Lucene
+     * and only hydrate the entities; any index change advances the generation and makes older entries
+     * unreachable.
+     */
     @Transactional(readOnly = true)
-    public List<Recipe> searchRecipes(String query) {
-        SearchSession searchSession = Search.session(entityManager);
+    public SearchPage<Recipe> searchRecipes(RecipeSearchRequest request) {
+        String normalizedQuery = normalize(request.getQuery());
+        String cacheKey = searchIndexGeneration.current() + ":" + pageKey(request) + ":" + normalizedQuery;
 
-        List<Recipe> recipes = searchSession.search(Recipe.class)
-                .where(f -> f.bool()
-                        .should(f.wildcard().field("name").matching("*" + query.toLowerCase() + "*"))
-                        .should(f.wildcard().field("cuisine").matching("*" + query.toLowerCase() + "*"))
-                )
-                .fetchAllHits();
+        SearchPage<Long> ids = searchResultCache().get(cacheKey,
+                () -> observe("query", () -> searchPage(f -> f.id(Long.class), normalizedQuery, request)));
+        List<Recipe> recipes = observe("hydration", () -> findAllInOrder(ids.getHits()));
+        return new SearchPage<>(recipes, ids.getOffset(), ids.getSize(), ids.getTotalHits(),
+                ids.isTotalHitsExact(), ids.isHasMore());
+    }
 
-        // Force initialization of lazy collections
-        recipes.forEach(recipe -> {
-            Hibernate.initialize(recipe.getIngredients());
-            Hibernate.initialize(recipe.getInstructions());
-            Hibernate.initialize(recipe.getTags());
-        });
+    /**
+     * Search recipes by name or cuisine and return a page of summaries projected from stored index fields.
+     * Nothing is loaded from the database, so no transaction is started and no JDBC connection is
+     * acquired; the session only exists to reach the index.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public SearchPage<RecipeSummary> searchRecipeSummaries(RecipeSearchRequest request) {
+        String normalizedQuery = normalize(request.getQuery());
+        String cacheKey = searchIndexGeneration.current() + ":summary:" + pageKey(request) + ":" + normalizedQuery;
 
-        return recipes;
+        return searchResultCache().get(cacheKey,
+                () -> observe("projection", () -> searchPage(SearchService::summary, normalizedQuery, request)));
+    }
+
+    private <H> SearchPage<H> searchPage(Function<SearchProjectionFactory<?, ?>, ProjectionFinalStep<H>> projection,
+                                         String query, RecipeSearchRequest request) {
+        SearchResult<H> result = Search.session(entityManager).search(Recipe.class)
+                .select(projection)
+                .where(f -> matchNameOrCuisine(f, query))
+                .sort(f -> sort(f, request.getSort(), request.isDescending()))
+                .totalHitCountThreshold(totalHitCountThreshold)
+                .fetch(request.getOffset(), request.getSize());
+
+        long totalHits = result.total().hitCountLowerBound();
+        boolean exact = result.total().isHitCountExact();
+        boolean hasMore = !exact || request.getOffset() + result.hits().size() < totalHits;
+        return new SearchPage<>(result.hits(), request.getOffset(), request.getSize(), totalHits, exact, hasMore);
+    }
+
+    /**
+     * Every order ends on the recipe id, so hits with equal keys keep a stable order across pages.
+     */
+    private static SortFinalStep sort(SearchSortFactory f, RecipeSearchSort sort, boolean descending) {
+        SortOrder order = descending ? SortOrder.DESC : SortOrder.ASC;
+        return switch (sort) {
+            case RELEVANCE -> f.score().then().field("id_sort");
+            case COOK_TIME -> f.field("cookTimeMinutes").order(order).missing().last()
+                    .then().score()
+                    .then().field("id_sort");
+            case NAME -> f.field("name_sort").order(order)
+                    .then().field("id_sort");
+        };
+    }
+
+    private static String pageKey(RecipeSearchRequest request) {
+        return request.getSort() + (request.isDescending() ? ":desc:" : ":asc:") + request.getOffset() + ":" + request.getSize();
+    }
+
+    /**
+     * Search recipes by name or cuisine, narrowed by the selected cuisine and tags, and return the top
+     * hits as summaries together with cuisine, tag and cook time counts over all matches. Hits and facets
+     * come from one index query over doc values, so facet counts need no extra pass and no entity loading.
+     *
+     * @param query   search text
+     * @param cuisine selected cuisine, or null
+     * @param tags    selected tags; a recipe must carry all of them
+     * @param limit   maximum number of hits returned
+     * @return FacetedSearchResult
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public FacetedSearchResult searchRecipeFacets(String query, String cuisine, List<String> tags, int limit) {
+        String normalizedQuery = normalize(query);
+        // Tag filters are a conjunction, so their order and repeats do not change the result
+        List<String> tagFilters = tags.stream().distinct().sorted().toList();
+        String cacheKey = searchIndexGeneration.current() + ":facets:" + limit + ":" + cuisine + ":" + tagFilters
+                + ":" + normalizedQuery;
+
+        return searchResultCache().get(cacheKey,
+                () -> observe("facets", () -> searchRecipeFacetHits(normalizedQuery, cuisine, tagFilters, limit)));
+    }
+
+    private FacetedSearchResult searchRecipeFacetHits(String query, String cuisine, List<String> tags, int limit) {
+        SearchResult<RecipeSummary> result = Search.session(entityManager).search(Recipe.class)
+                .select(SearchService::summary)
+                .where(f -> f.bool().with(b -> {
+                    b.must(matchNameOrCuisine(f, query));
+                    if (cuisine != null) {
+                        b.filter(f.match().field("cuisine_facet").matching(cuisine));
+                    }
+                    tags.forEach(tag -> b.filter(f.match().field("tags_facet").matching(tag)));
+                }))
+                .aggregation(CUISINE_FACET, f -> f.terms().field("cuisine_facet", String.class).maxTermCount(facetSize))
+                .aggregation(TAG_FACET, f -> f.terms().field("tags_facet", String.class).maxTermCount(facetSize))
+                .aggregation(COOK_TIME_FACET, f -> f.range().field("cookTimeMinutes", Integer.class).ranges(COOK_TIME_RANGES))
+                .fetch(limit);
+
+        Map<Range<Integer>, Long> cookTimeCounts = result.aggregation(COOK_TIME_FACET);
+        Map<String, Long> cookTimes = new LinkedHashMap<>();
+        COOK_TIME_RANGES.forEach(range -> cookTimes.put(label(range), cookTimeCounts.getOrDefault(range, 0L)));
+
+        return new FacetedSearchResult(result.total().hitCount(), result.hits(),
+                result.aggregation(CUISINE_FACET), result.aggregation(TAG_FACET), cookTimes);
+    }
+
+    private static String label(Range<Integer> range) {
+        Integer lower = range.lowerBoundValue().orElse(0);
+        return range.upperBoundValue()
+                .map(upper -> lower + "-" + upper)
+                .orElse(lower + "+");
+    }
+
+    private static ProjectionFinalStep<RecipeSummary> summary(SearchProjectionFactory<?, ?> f) {
+        return f.composite()
+                .from(f.id(Long.class),
+                        f.field("name", String.class),
+                        f.field("cuisine", String.class),
+                        f.field("image", String.class),
+                        f.field("cookTimeMinutes", Integer.class))
+                .asArray(fields -> new RecipeSummary((Long) fields[0], (String) fields[1],
+                        (String) fields[2], (String) fields[3], (Integer) fields[4]));
+    }
+
+    /**
+     * Time one phase of a search as a {@code recipes.search} observation tagged with the phase, so index
+     * time and database hydration time are reported separately. Cache hits record no query phase.
+     */
+    private <T> T observe(String phase, Supplier<T> work) {
+        return Observation.createNotStarted(SEARCH_OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("phase", phase)
+                .observe(work);
+    }
+
+    static String normalize(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Match the query against name and cuisine. Whole-word hits score highest, then prefix hits from the
+     * edge n-gram fields, then substring hits from the n-gram fields; name hits outrank cuisine hits.
+     */
+    static PredicateFinalStep matchNameOrCuisine(SearchPredicateFactory f, String query) {
+        return f.bool()
+                .should(f.match().field("name").boost(8f).field("cuisine").boost(4f)
+                        .matching(query))
+                .should(f.match().field("name_prefix").boost(4f).field("cuisine_prefix").boost(2f)
+                        .matching(query))
+                .should(f.match().field("name_ngram").boost(2f).field("cuisine_ngram")
+                        .matching(query));
     }
 
     @Transactional
@@ -50,21 +234,123 @@ public class SearchService {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Indexing was interrupted", e);
         }
+        searchIndexGeneration.advance();
     }
 
+    /**
+     * Check whether the persisted index matches the database by comparing document count and highest id.
+     * Ids come from a sequence and only grow, so both values agreeing means no recipe is missing from
+     * the index and no deleted recipe is left in it. An index written before summary fields were stored
+     * has no projectable name, and one written before facet or sort fields existed lacks their values;
+     * all are treated as out of sync.
+     *
+     * @return true when the index can be used as is
+     */
+    @Transactional(readOnly = true)
+    public boolean isIndexInSync() {
+        Object[] dbState = entityManager.createQuery("SELECT COUNT(r), MAX(r.id), COUNT(r.cuisine) FROM Recipe r", Object[].class)
+                .getSingleResult();
+        long dbCount = (Long) dbState[0];
+        Long dbMaxId = (Long) dbState[1];
+        long dbCuisineCount = (Long) dbState[2];
+
+        SearchResult<RecipeSummary> indexState = Search.session(entityManager).search(Recipe.class)
+                .select(f -> f.composite()
+                        .from(f.id(Long.class), f.field("name", String.class))
+                        .as((id, name) -> new RecipeSummary(id, name, null, null, null)))
+                .where(f -> f.matchAll())
+                .sort(f -> f.field("id_sort").desc())
+                .fetch(1);
+        long indexCount = indexState.total().hitCount();
+        RecipeSummary indexTop = indexState.hits().isEmpty() ? null : indexState.hits().get(0);
+        Long indexMaxId = indexTop == null ? null : indexTop.id();
+
+        long indexCuisineCount = Search.session(entityManager).search(Recipe.class)
+                .where(f -> f.exists().field("cuisine_facet"))
+                .fetchTotalHitCount();
+        long indexSortableCount = Search.session(entityManager).search(Recipe.class)
+                .where(f -> f.exists().field("name_sort"))
+                .fetchTotalHitCount();
+
+        log.info("Index state: {} documents (max id {}), database: {} recipes (max id {})",
+                indexCount, indexMaxId, dbCount, dbMaxId);
+        boolean storesSummaries = indexTop == null || indexTop.name() != null;
+        boolean storesFacets = indexCuisineCount == dbCuisineCount;
+        boolean storesSortKeys = indexSortableCount == dbCount;
+        return dbCount == indexCount && Objects.equals(dbMaxId, indexMaxId) && storesSummaries && storesFacets
+                && storesSortKeys;
+    }
+
+    /**
+     * Load the whole catalog with initialized collections. Every recipe is wanted, so each collection is
+     * fetched for the whole table instead of through a list of every recipe id.
+     */
     @Transactional(readOnly = true)
     public List<Recipe> getAllRecipesWithInitializedCollections() {
         List<Recipe> recipes = entityManager.createQuery("SELECT r FROM Recipe r", Recipe.class)
                 .getResultList();
 
-        // Force initialization of lazy collections
-        recipes.forEach(recipe -> {
-            Hibernate.initialize(recipe.getIngredients());
-            Hibernate.initialize(recipe.getInstructions());
-            Hibernate.initialize(recipe.getTags());
-        });
+        for (String collection : COLLECTIONS) {
+            entityManager.createQuery("SELECT r FROM Recipe r LEFT JOIN FETCH r." + collection, Recipe.class)
+                    .getResultList();
+        }
+        return recipes;
+    }
 
+    /**
+     * Load recipes with initialized collections, returned in the order of the given ids. Ids that no
+     * longer exist are skipped.
+     */
+    @Transactional(readOnly = true)
+    public List<Recipe> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Recipe> recipesById = entityManager.createQuery("SELECT r FROM Recipe r WHERE r.id IN :ids", Recipe.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        List<Recipe> recipes = ids.stream()
+                .map(recipesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        fetchCollections(recipes);
         return recipes;
     }
 
+    private Cache searchResultCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.SEARCH_RESULTS));
+    }
+
+    /**
+     * Initialize ingredients, instructions and tags for a whole result set with one fetch-join query
+     * per collection and {@value #MAX_IN_LIST} recipes, instead of one query per recipe and collection.
+     * Each query fetches a single bag, which keeps Hibernate away from cartesian products and
+     * MultipleBagFetchException, and the id lists are chunked so large result sets stay within the
+     * database's limits on bind parameters.
+     *
+     * @param recipes managed recipes whose collections should be loaded
+     */
+    @Transactional(readOnly = true)
+    public void fetchCollections(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = recipes.stream()
+                .map(Recipe::getId)
+                .toList();
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IN_LIST, ids.size()));
+            for (String collection : COLLECTIONS) {
+                entityManager.createQuery(
+                                "SELECT r FROM Recipe r LEFT JOIN FETCH r." + collection + " WHERE r.id IN :ids", Recipe.class)
+                        .setParameter("ids", chunk)
+                        .getResultList();
+            }
+        }
+    }
+
 }
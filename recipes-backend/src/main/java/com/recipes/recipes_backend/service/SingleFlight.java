@@ -0,0 +1,51 @@
+package com.recipes.recipes_backend.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent asynchronous calls for the same key: the first caller starts the work and every
+ * caller arriving before it completes shares its result. Nothing is retained once the call completes,
+ * so this complements a cache rather than replacing it.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key    identifies calls that may share a result
+     * @param loader starts the work; only invoked when no call for the key is in flight
+     * @return a future of the shared result; cancelling it does not affect other callers
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            return existing.copy();
+        }
+
+        try {
+            loader.get().whenComplete((value, error) -> {
+                inFlight.remove(key, promise);
+                if (error != null) {
+                    promise.completeExceptionally(error);
+                } else {
+                    promise.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, promise);
+            promise.completeExceptionally(e);
+        }
+        return promise.copy();
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+}
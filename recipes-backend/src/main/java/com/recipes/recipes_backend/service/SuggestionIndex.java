@@ -0,0 +1,188 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.Suggestion;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index over suggestion terms. Every term is reachable from the start of each of its
+ * words ("green curry" and "curry" both lead to "Thai Green Curry"), and all keys are held in one sorted
+ * array. Terms are ranked once at build time. Prefixes of up to {@value #SHORT_PREFIX} characters match
+ * a large share of the keys, so their best {@value #MAX_LIMIT} terms are precomputed; longer prefixes
+ * binary search for their range and keep the best ranks seen in a small array while scanning it.
+ */
+final class SuggestionIndex {
+
+    static final SuggestionIndex EMPTY = build(Map.of());
+
+    /**
+     * Longest prefix whose ranking is precomputed.
+     */
+    static final int SHORT_PREFIX = 2;
+
+    /**
+     * Most suggestions a lookup can be served from the precomputed rankings.
+     */
+    static final int MAX_LIMIT = 20;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String[] keys;
+    private final int[] keyRanks;
+    private final String[] texts;
+    private final String[] types;
+    private final int[] weights;
+    private final Map<String, int[]> shortPrefixRanks;
+
+    private SuggestionIndex(String[] keys, int[] keyRanks, String[] texts, String[] types, int[] weights,
+                            Map<String, int[]> shortPrefixRanks) {
+        this.keys = keys;
+        this.keyRanks = keyRanks;
+        this.texts = texts;
+        this.types = types;
+        this.weights = weights;
+        this.shortPrefixRanks = shortPrefixRanks;
+    }
+
+    /**
+     * @param terms suggestion terms with the number of recipes that carry them
+     */
+    static SuggestionIndex build(Map<SuggestionTerm, Integer> terms) {
+        // Terms are numbered by rank: most frequent first, shorter texts before longer ones on ties
+        List<Map.Entry<SuggestionTerm, Integer>> ranked = new ArrayList<>(terms.entrySet());
+        ranked.sort(Comparator.<Map.Entry<SuggestionTerm, Integer>>comparingInt(entry -> -entry.getValue())
+                .thenComparingInt(entry -> entry.getKey().text().length())
+                .thenComparing(entry -> entry.getKey().text()));
+
+        int termCount = ranked.size();
+        String[] texts = new String[termCount];
+        String[] types = new String[termCount];
+        int[] weights = new int[termCount];
+        List<Key> keys = new ArrayList<>(termCount * 2);
+        Map<String, RankList> shortPrefixes = new HashMap<>();
+
+        for (int rank = 0; rank < termCount; rank++) {
+            Map.Entry<SuggestionTerm, Integer> entry = ranked.get(rank);
+            texts[rank] = entry.getKey().text();
+            types[rank] = entry.getKey().type();
+            weights[rank] = entry.getValue();
+
+            String normalized = normalize(entry.getKey().text());
+            int start = 0;
+            while (start >= 0) {
+                String key = normalized.substring(start);
+                keys.add(new Key(key, rank));
+                for (int length = 1; length <= Math.min(SHORT_PREFIX, key.length()); length++) {
+                    shortPrefixes.computeIfAbsent(key.substring(0, length), prefix -> new RankList()).addRank(rank);
+                }
+                int space = normalized.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+
+        keys.sort(Comparator.comparing(Key::text));
+        String[] keyTexts = new String[keys.size()];
+        int[] keyRanks = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            keyTexts[i] = keys.get(i).text();
+            keyRanks[i] = keys.get(i).rank();
+        }
+        Map<String, int[]> shortPrefixRanks = new HashMap<>();
+        shortPrefixes.forEach((prefix, ranks) -> shortPrefixRanks.put(prefix, ranks.toArray()));
+        return new SuggestionIndex(keyTexts, keyRanks, texts, types, weights, shortPrefixRanks);
+    }
+
+    /**
+     * Return up to {@code limit} terms with a word starting with {@code prefix}, most frequent first and
+     * shorter texts before longer ones on ties.
+     */
+    List<Suggestion> lookup(String prefix, int limit) {
+        String normalizedPrefix = normalize(prefix);
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (normalizedPrefix.length() <= SHORT_PREFIX && limit <= MAX_LIMIT) {
+            int[] ranks = shortPrefixRanks.get(normalizedPrefix);
+            return ranks == null ? List.of() : suggestions(ranks, Math.min(limit, ranks.length));
+        }
+
+        // Best ranks so far, ascending. A term shows up once per matching word; a repeat is either already
+        // kept or ranked below the cut, so no set is needed to drop it
+        int[] top = new int[limit];
+        int size = 0;
+        for (int i = lowerBound(normalizedPrefix); i < keys.length && keys[i].startsWith(normalizedPrefix); i++) {
+            int rank = keyRanks[i];
+            if (size == limit && rank >= top[size - 1]) {
+                continue;
+            }
+            int at = Arrays.binarySearch(top, 0, size, rank);
+            if (at >= 0) {
+                continue;
+            }
+            at = -at - 1;
+            int moved = Math.min(size, limit - 1) - at;
+            System.arraycopy(top, at, top, at + 1, moved);
+            top[at] = rank;
+            size = Math.min(size + 1, limit);
+        }
+        return suggestions(top, size);
+    }
+
+    private List<Suggestion> suggestions(int[] ranks, int count) {
+        Suggestion[] result = new Suggestion[count];
+        for (int i = 0; i < count; i++) {
+            int rank = ranks[i];
+            result[i] = new Suggestion(texts[rank], types[rank], weights[rank]);
+        }
+        return Arrays.asList(result);
+    }
+
+    int size() {
+        return texts.length;
+    }
+
+    private int lowerBound(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Lowercase, strip accents and collapse whitespace, matching how the search analyzers fold text.
+     */
+    static String normalize(String text) {
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return WHITESPACE.matcher(folded.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Key(String text, int rank) {
+    }
+
+    /**
+     * Build-time list of the best {@value #MAX_LIMIT} ranks of one short prefix. Ranks arrive in
+     * ascending order, and a term's words that share the prefix add the same rank in a row.
+     */
+    private static final class RankList {
+
+        private final int[] ranks = new int[MAX_LIMIT];
+        private int size;
+
+        void addRank(int rank) {
+            if (size < MAX_LIMIT && (size == 0 || ranks[size - 1] != rank)) {
+                ranks[size++] = rank;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ranks, size);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.Suggestion;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import com.recipes.recipes_backend.event.RecipesSyncedEvent;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class SuggestionService {
+
+    private final RecipeRepository recipeRepository;
+
+    private final Map<SuggestionTerm, Integer> termCounts = new HashMap<>();
+    private final Map<Long, List<SuggestionTerm>> termsByRecipe = new HashMap<>();
+    private boolean changed;
+    private volatile SuggestionIndex index = SuggestionIndex.EMPTY;
+
+    /**
+     * Autocomplete recipe names, cuisines and tags from the in-memory prefix index. Lookups never touch
+     * Hibernate or the database.
+     *
+     * @param prefix text typed so far
+     * @param limit  maximum number of suggestions
+     * @return CustomResponse<List<Suggestion>>
+     */
+    public CustomResponse<List<Suggestion>> suggest(String prefix, int limit) {
+        List<Suggestion> suggestions = index.lookup(prefix, limit);
+        return CustomResponse.success(suggestions, "Suggestions retrieved successfully");
+    }
+
+    /**
+     * Build the index from the recipes already in the database, using scalar queries so no entities
+     * are loaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuildFromDatabase() {
+        termCounts.clear();
+        termsByRecipe.clear();
+        recipeRepository.findAllNames().forEach(name -> add(name.recipeId(), name.text(), SuggestionTerm.NAME));
+        recipeRepository.findAllCuisines().forEach(cuisine -> add(cuisine.recipeId(), cuisine.text(), SuggestionTerm.CUISINE));
+        recipeRepository.findAllTags().forEach(tag -> add(tag.recipeId(), tag.text(), SuggestionTerm.TAG));
+        publish();
+    }
+
+    /**
+     * Fold committed changes into the term counts. The terms each recipe contributed are remembered, so
+     * updated and removed recipes are subtracted without querying the database. The index itself is only
+     * rebuilt once the sync writing these changes has finished.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onRecipesChanged(RecipesChangedEvent event) {
+        for (Recipe recipe : event.recipes()) {
+            remove(recipe.getId());
+            add(recipe.getId(), recipe.getName(), SuggestionTerm.NAME);
+            add(recipe.getId(), recipe.getCuisine(), SuggestionTerm.CUISINE);
+            if (recipe.getTags() != null) {
+                recipe.getTags().forEach(tag -> add(recipe.getId(), tag, SuggestionTerm.TAG));
+            }
+        }
+        event.removedIds().forEach(this::remove);
+        changed = true;
+    }
+
+    /**
+     * Swap in an index rebuilt from the folded term counts, so a sync costs one rebuild however many
+     * pages it wrote. Readers keep using the previous index until the swap.
+     */
+    @EventListener(RecipesSyncedEvent.class)
+    public synchronized void onRecipesSynced() {
+        if (changed) {
+            publish();
+        }
+    }
+
+    private void add(Long recipeId, String text, String type) {
+        if (text != null && !text.isBlank()) {
+            SuggestionTerm term = new SuggestionTerm(text.trim(), type);
+            termCounts.merge(term, 1, Integer::sum);
+            termsByRecipe.computeIfAbsent(recipeId, id -> new ArrayList<>(4)).add(term);
+        }
+    }
+
+    private void remove(Long recipeId) {
+        List<SuggestionTerm> terms = termsByRecipe.remove(recipeId);
+        if (terms != null) {
+            terms.forEach(term -> termCounts.computeIfPresent(term, (key, count) -> count > 1 ? count - 1 : null));
+        }
+    }
+
+    private void publish() {
+        long start = System.nanoTime();
+        index = SuggestionIndex.build(termCounts);
+        changed = false;
+        log.debug("Suggestion index rebuilt with {} terms in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,11 @@
+package com.recipes.recipes_backend.service;
+
+/**
+ * A suggestable value and the recipe field it comes from ({@code name}, {@code cuisine} or {@code tag}).
+ */
+record SuggestionTerm(String text, String type) {
+
+    static final String NAME = "name";
+    static final String CUISINE = "cuisine";
+    static final String TAG = "tag";
+}
@@ -0,0 +1,94 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.SyncJobState;
+import com.recipes.recipes_backend.dto.response.SyncJobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Progress of one sync run. Written by the sync thread, read by status requests; counters are only
+ * ever written by one thread, so volatile fields are enough.
+ */
+class SyncJob implements SyncProgress {
+
+    private final String id = UUID.randomUUID().toString();
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+
+    private volatile SyncJobState state = SyncJobState.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile long finishedNanos;
+    private volatile boolean complete;
+    private volatile String error;
+    private volatile boolean cancelRequested;
+
+    private volatile int pagesFetched;
+    private volatile int recipesFetched;
+    private volatile int catalogSize;
+    private volatile int recipesWritten;
+    private volatile int recipesRemoved;
+
+    String id() {
+        return id;
+    }
+
+    boolean isRunning() {
+        return state == SyncJobState.RUNNING;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void finish(SyncJobState finalState, boolean wholeCatalog, String failure) {
+        complete = wholeCatalog;
+        error = failure;
+        finishedNanos = System.nanoTime();
+        finishedAt = Instant.now();
+        state = finalState;
+    }
+
+    @Override
+    public void onPage(int fetched, int total, RecipeBatchWriter.UpsertResult result) {
+        pagesFetched++;
+        recipesFetched += fetched;
+        catalogSize = total;
+        recipesWritten += result.inserted() + result.updated();
+    }
+
+    @Override
+    public void onRemoved(int removed) {
+        recipesRemoved += removed;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    SyncJobStatus snapshot() {
+        SyncJobState currentState = state;
+        long endNanos = currentState == SyncJobState.RUNNING ? System.nanoTime() : finishedNanos;
+        int written = recipesWritten;
+        int removed = recipesRemoved;
+        return SyncJobStatus.builder()
+                .jobId(id)
+                .state(currentState)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(endNanos - startedNanos))
+                .pagesFetched(pagesFetched)
+                .recipesFetched(recipesFetched)
+                .catalogSize(catalogSize)
+                .recipesWritten(written)
+                .recipesRemoved(removed)
+                // Search documents are updated on commit for exactly the recipes written or removed
+                .documentsIndexed(written + removed)
+                .complete(complete)
+                .cancelRequested(cancelRequested)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.SyncJobState;
+import com.recipes.recipes_backend.dto.response.SyncJobStatus;
+import com.recipes.recipes_backend.dto.response.SyncReport;
+import com.recipes.recipes_backend.exception.SyncJobNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class SyncJobService implements DisposableBean {
+
+    private static final int RETAINED_JOBS = 20;
+
+    private final RecipeIngestionService recipeIngestionService;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, SyncJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SyncJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+    private SyncJob current;
+
+    public SyncJobService(RecipeIngestionService recipeIngestionService,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.recipeIngestionService = recipeIngestionService;
+        // A private single-thread executor rather than a bean: any Executor bean would replace Spring
+        // Boot's applicationTaskExecutor. Runs are single-flight; the one queue slot covers a new job
+        // submitted while the previous job's thread is still returning. In virtual thread mode the
+        // sync's blocking fetches and writes run on a virtual thread, like request handling
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("recipe-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+    }
+
+    /**
+     * Start a sync with the external API unless one is already running, in which case the running job
+     * is returned instead of starting a second one.
+     *
+     * @return CustomResponse<SyncJobStatus> status of the started or already running job
+     */
+    public CustomResponse<SyncJobStatus> start() {
+        SyncJob job;
+        synchronized (this) {
+            if (current != null && current.isRunning()) {
+                log.info("Recipe sync {} already running", current.id());
+                return CustomResponse.success(current.snapshot(), "Recipe sync already running");
+            }
+            job = new SyncJob();
+            jobs.put(job.id(), job);
+            current = job;
+        }
+
+        executor.execute(() -> run(job));
+        log.info("Started recipe sync {}", job.id());
+        return CustomResponse.success(job.snapshot(), "Recipe sync started");
+    }
+
+    public CustomResponse<SyncJobStatus> status(String jobId) {
+        return CustomResponse.success(find(jobId).snapshot(), "Recipe sync status retrieved successfully");
+    }
+
+    /**
+     * Ask a running job to stop. The page being written is committed, no further pages are fetched and
+     * no recipes are removed.
+     */
+    public CustomResponse<SyncJobStatus> cancel(String jobId) {
+        SyncJob job = find(jobId);
+        if (!job.isRunning()) {
+            return CustomResponse.success(job.snapshot(), "Recipe sync already finished");
+        }
+        job.requestCancel();
+        log.info("Cancellation requested for recipe sync {}", jobId);
+        return CustomResponse.success(job.snapshot(), "Recipe sync cancellation requested");
+    }
+
+    @Scheduled(cron = "${recipes.sync.cron:-}")
+    public void scheduledSync() {
+        start();
+    }
+
+    /**
+     * Only a run that saw the whole external catalog succeeds; one that stopped early without being
+     * cancelled fails with the reason. The job is finished whatever is thrown, so a crashed run never
+     * stays RUNNING and blocks every later sync.
+     */
+    private void run(SyncJob job) {
+        SyncJobState state = SyncJobState.FAILED;
+        boolean complete = false;
+        String error = "Recipe sync stopped unexpectedly";
+        try {
+            SyncReport report = recipeIngestionService.synchronize(job);
+            complete = report.complete();
+            if (job.isCancelled()) {
+                state = SyncJobState.CANCELLED;
+                error = null;
+            } else if (complete) {
+                state = SyncJobState.SUCCEEDED;
+                error = null;
+            } else {
+                error = report.failure() != null ? report.failure()
+                        : "Fetched " + report.fetched() + " of " + job.snapshot().getCatalogSize() + " external recipes";
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+        } finally {
+            job.finish(state, complete, error);
+            if (state == SyncJobState.FAILED) {
+                log.error("Recipe sync {} failed: {}", job.id(), error);
+            } else {
+                log.info("Recipe sync {} finished: {}", job.id(), state);
+            }
+        }
+    }
+
+    private synchronized SyncJob find(String jobId) {
+        SyncJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new SyncJobNotFoundException("Recipe sync job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    @Override
+    public void destroy() {
+        SyncJob running = current;
+        if (running != null && running.isRunning()) {
+            running.requestCancel();
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,24 @@
+package com.recipes.recipes_backend.service;
+
+/**
+ * Receives progress of a running sync and tells it when to stop. Called on the sync thread after each
+ * page has been committed.
+ */
+public interface SyncProgress {
+
+    SyncProgress NONE = new SyncProgress() {
+    };
+
+    default void onPage(int fetched, int catalogSize, RecipeBatchWriter.UpsertResult result) {
+    }
+
+    default void onRemoved(int removed) {
+    }
+
+    /**
+     * Checked before each page; once true the sync stops after the page it is on and skips removals.
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
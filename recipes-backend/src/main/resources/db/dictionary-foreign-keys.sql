@@ -0,0 +1,6 @@
+-- The join tables store dictionary ids through attribute converters, which Hibernate cannot turn into
+-- foreign keys, so they are added once the schema exists
+ALTER TABLE recipe_tags ADD CONSTRAINT IF NOT EXISTS fk_recipe_tags_tag
+    FOREIGN KEY (tag_id) REFERENCES tags (id);
+ALTER TABLE recipe_ingredients ADD CONSTRAINT IF NOT EXISTS fk_recipe_ingredients_ingredient
+    FOREIGN KEY (ingredient_id) REFERENCES ingredients (id);
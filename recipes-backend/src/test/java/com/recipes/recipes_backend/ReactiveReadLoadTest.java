@@ -0,0 +1,77 @@
+package com.recipes.recipes_backend;
+
+import com.recipes.recipes_backend.config.ReactiveReadServer;
+import com.recipes.recipes_backend.service.RecipeBatchWriter;
+import com.recipes.recipes_backend.support.HttpLoad;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the same reads at high concurrency against the servlet endpoints and the reactive endpoints of
+ * one application instance. The by-id cache is disabled so every request reaches the database.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ReactiveReadLoadTest {
+
+    private static final int CATALOG_SIZE = 1_000;
+    private static final int CONCURRENCY = 400;
+    private static final int BY_ID_REQUESTS = 10_000;
+    private static final int LIST_REQUESTS = 200;
+
+    @Test
+    void compareServletAndReactiveReads() throws Exception {
+        String database = "load-" + UUID.randomUUID();
+        try (var context = new SpringApplicationBuilder(RecipesBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + database,
+                        "recipes.reactive.r2dbc-url=r2dbc:h2:mem:///" + database,
+                        "recipes.cache.recipe-by-id.maximum-weight=0B",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            RecipeBatchWriter writer = context.getBean(RecipeBatchWriter.class);
+            for (int from = 0; from < CATALOG_SIZE; from += 500) {
+                writer.writeAll(SyntheticRecipes.recipes(from, 500));
+            }
+            int servletPort = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            int reactivePort = context.getBean(ReactiveReadServer.class).getPort();
+
+            System.out.printf("%d recipes, %d concurrent clients:%n", CATALOG_SIZE, CONCURRENCY);
+            System.out.println(run("servlet  GET /{id}", servletPort, BY_ID_REQUESTS, ReactiveReadLoadTest::byId));
+            System.out.println(run("reactive GET /{id}", reactivePort, BY_ID_REQUESTS, ReactiveReadLoadTest::byId));
+            System.out.println(run("servlet  GET /", servletPort, LIST_REQUESTS, ReactiveReadLoadTest::all));
+            System.out.println(run("reactive GET /", reactivePort, LIST_REQUESTS, ReactiveReadLoadTest::all));
+        }
+    }
+
+    private static String run(String mode, int port, int requests, IntFunction<HttpRequest> request) throws Exception {
+        HttpLoad.fire(CONCURRENCY, requests / 5, () -> request.apply(port));
+        HttpLoad.Result result = HttpLoad.fire(CONCURRENCY, requests, () -> request.apply(port));
+
+        assertEquals(0, result.failed(), mode + " had failed requests");
+        return String.format("  %-20s %7.0f req/s  p50=%7.2f ms  p99=%8.2f ms  503s=%d",
+                mode, result.throughput(), result.percentile(50), result.percentile(99), result.rejected());
+    }
+
+    private static HttpRequest byId(int port) {
+        long id = 1 + ThreadLocalRandom.current().nextLong(CATALOG_SIZE);
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/recipes/" + id)).GET().build();
+    }
+
+    private static HttpRequest all(int port) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/recipes")).GET().build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.recipes.recipes_backend;
+
+import com.recipes.recipes_backend.service.RecipeBatchWriter;
+import com.recipes.recipes_backend.support.HttpLoad;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives keyset page reads at high concurrency against the application booted with platform-thread
+ * Tomcat workers, with virtual threads, and with virtual threads but no database concurrency cap.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ThreadModeLoadTest {
+
+    private static final int CATALOG_SIZE = 2_000;
+    private static final int CONCURRENCY = 400;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 10_000;
+
+    @Test
+    void compareThreadModes() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(run("platform threads", false, "${spring.datasource.hikari.maximum-pool-size}"));
+        report.add(run("virtual threads", true, "${spring.datasource.hikari.maximum-pool-size}"));
+        report.add(run("virtual threads, no cap", true, "100000"));
+
+        System.out.printf("Keyset page reads, %d recipes, %d concurrent clients, %d requests:%n",
+                CATALOG_SIZE, CONCURRENCY, MEASURED_REQUESTS);
+        report.forEach(System.out::println);
+    }
+
+    private String run(String mode, boolean virtualThreads, String maxDbRequests) throws Exception {
+        try (var context = new SpringApplicationBuilder(RecipesBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "recipes.concurrency.max-db-requests=" + maxDbRequests,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + UUID.randomUUID(),
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            RecipeBatchWriter writer = context.getBean(RecipeBatchWriter.class);
+            for (int from = 0; from < CATALOG_SIZE; from += 1_000) {
+                writer.writeAll(SyntheticRecipes.recipes(from, 1_000));
+            }
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HikariDataSource dataSource = context.getBean(HikariDataSource.class);
+
+            HttpLoad.fire(CONCURRENCY, WARMUP_REQUESTS, () -> pageRequest(port));
+
+            AtomicInteger maxAwaitingConnection = new AtomicInteger();
+            AtomicBoolean sampling = new AtomicBoolean(true);
+            Thread sampler = Thread.ofPlatform().start(() -> {
+                while (sampling.get()) {
+                    maxAwaitingConnection.accumulateAndGet(
+                            dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection(), Math::max);
+                    Thread.onSpinWait();
+                }
+            });
+
+            HttpLoad.Result result = HttpLoad.fire(CONCURRENCY, MEASURED_REQUESTS, () -> pageRequest(port));
+            sampling.set(false);
+            sampler.join();
+
+            assertEquals(0, result.failed(), mode + " had failed requests");
+            return String.format("  %-24s %7.0f req/s  p50=%6.2f ms  p99=%7.2f ms  503s=%d  max threads waiting in Hikari=%d",
+                    mode, result.throughput(), result.percentile(50), result.percentile(99),
+                    result.rejected(), maxAwaitingConnection.get());
+        }
+    }
+
+    private static HttpRequest pageRequest(int port) {
+        long afterId = ThreadLocalRandom.current().nextLong(CATALOG_SIZE - 20);
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("id:" + afterId).getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/recipes/page?size=20&cursor=" + cursor))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.recipes.recipes_backend.config;
+
+import com.recipes.recipes_backend.exception.ServiceBusyException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseConcurrencyLimiterTest {
+
+    private final DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(10));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_NoPermitLeft_ShouldRejectUntilReleased() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        assertTrue(limiter.preHandle(first, response, new Object()));
+
+        assertThrows(ServiceBusyException.class, () -> limiter.preHandle(new MockHttpServletRequest(), response, new Object()));
+
+        limiter.afterCompletion(first, response, new Object(), null);
+        assertEquals(1, limiter.availablePermits());
+    }
+
+    @Test
+    void asyncRequest_ShouldReleaseOncePerAcquire() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        limiter.preHandle(request, response, new Object());
+
+        limiter.afterConcurrentHandlingStarted(request, response, new Object());
+        limiter.afterCompletion(request, response, new Object(), null);
+
+        assertEquals(1, limiter.availablePermits());
+    }
+}
@@ -0,0 +1,65 @@
+package com.recipes.recipes_backend.config;
+
+import com.recipes.recipes_backend.service.RecipeBatchWriter;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @BeforeEach
+    void setUp() {
+        recipeBatchWriter.writeAll(SyntheticRecipes.recipes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void prometheusEndpoint_ShouldExposeHotPathMetrics() throws Exception {
+        mockMvc.perform(get("/api/recipes/page").param("size", "2"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/recipes/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"curry\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_count{application=\"recipes-backend\",error=\"none\",exception=\"none\",method=\"GET\",outcome=\"SUCCESS\",status=\"200\",uri=\"/api/recipes/page\"}")))
+                .andExpect(content().string(containsString("recipes_http_sql_statements_count{application=\"recipes-backend\",method=\"GET\",uri=\"/api/recipes/page\"} 1")))
+                .andExpect(content().string(containsString("recipes_search_seconds_count{application=\"recipes-backend\",error=\"none\",phase=\"query\"}")))
+                .andExpect(content().string(containsString("recipes_search_seconds_count{application=\"recipes-backend\",error=\"none\",phase=\"hydration\"}")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending{application=\"recipes-backend\",pool=\"RecipeHikariPool\"}")))
+                .andExpect(content().string(containsString("resilience4j_circuitbreaker_state{application=\"recipes-backend\",group=\"none\",name=\"recipeService\",state=\"closed\"} 1")))
+                .andExpect(content().string(containsString("cache_gets_total{application=\"recipes-backend\",cache=\"searchResults\"")));
+    }
+}
@@ -0,0 +1,47 @@
+package com.recipes.recipes_backend.config;
+
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.entity.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadSizeWeigherTest {
+
+    private final PayloadSizeWeigher weigher = new PayloadSizeWeigher();
+
+    @Test
+    void weigh_ShouldGrowWithRecipeContent() {
+        Recipe small = Recipe.builder().id(1L).name("Toast").build();
+        Recipe large = Recipe.builder()
+                .id(2L)
+                .name("Slow Roasted Tomato and Basil Soup")
+                .instructions(new ArrayList<>(List.of("a".repeat(500), "b".repeat(500))))
+                .build();
+
+        int smallWeight = weigher.weigh(1L, CustomResponse.success(small, "Recipe retrieved successfully"));
+        int largeWeight = weigher.weigh(2L, CustomResponse.success(large, "Recipe retrieved successfully"));
+
+        assertTrue(smallWeight > 0);
+        assertTrue(largeWeight >= smallWeight + 1_000);
+    }
+
+    @Test
+    void weigh_FacetedResult_ShouldCountFacetKeys() {
+        FacetedSearchResult empty = new FacetedSearchResult(0, List.of(), Map.of(), Map.of(), Map.of());
+        FacetedSearchResult faceted = new FacetedSearchResult(0, List.of(), Map.of("x".repeat(500), 3L),
+                Map.of("y".repeat(500), 2L), Map.of());
+
+        assertTrue(weigher.weigh("key", faceted) >= weigher.weigh("key", empty) + 1_000);
+    }
+
+    @Test
+    void weigh_UnknownValue_ShouldReturnPositiveWeight() {
+        assertTrue(weigher.weigh("key", new Object()) > 0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.recipes.recipes_backend.config;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.service.RecipeBatchWriter;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "recipes.reactive.chunk-size=2"})
+class ReactiveReadServerTest {
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    private WebTestClient client;
+    private List<Recipe> recipes;
+
+    @BeforeEach
+    void setUp() {
+        recipes = SyntheticRecipes.recipes(5);
+        recipeBatchWriter.writeAll(recipes);
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.getPort())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void getAllRecipes_ShouldStreamEveryRecipeAcrossChunks() {
+        List<Recipe> body = client.get().uri("/api/recipes")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(Recipe.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(body);
+        assertEquals(recipes.stream().map(Recipe::getId).toList(), body.stream().map(Recipe::getId).toList());
+        Recipe first = body.get(0);
+        assertEquals(recipes.get(0).getName(), first.getName());
+        assertEquals(List.copyOf(recipes.get(0).getIngredients()), first.getIngredients());
+        assertEquals(List.copyOf(recipes.get(0).getInstructions()), first.getInstructions());
+        assertEquals(List.copyOf(recipes.get(0).getTags()), first.getTags());
+    }
+
+    @Test
+    void getAllRecipes_WithNdjsonAccept_ShouldStreamOneRecipePerLine() {
+        List<String> lines = client.get().uri("/api/recipes")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .returnResult(String.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(lines);
+        assertEquals(recipes.size(), lines.size());
+    }
+
+    @Test
+    void getRecipeById_ShouldReturnWrappedRecipe() {
+        Recipe recipe = recipes.get(3);
+
+        client.get().uri("/api/recipes/{id}", recipe.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.id").isEqualTo(recipe.getId())
+                .jsonPath("$.data.name").isEqualTo(recipe.getName())
+                .jsonPath("$.data.instructions.length()").isEqualTo(recipe.getInstructions().size());
+    }
+
+    @Test
+    void getRecipeById_WhenMissing_ShouldReturnNotFound() {
+        client.get().uri("/api/recipes/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(false)
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    void getRecipeById_WithInvalidId_ShouldReturnBadRequest() {
+        client.get().uri("/api/recipes/abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
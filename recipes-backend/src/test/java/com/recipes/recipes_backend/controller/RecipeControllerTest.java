@@ -1,10 +1,29 @@
 package com.recipes.recipes_backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.recipes_backend.dto.request.RecipeBatchRequest;
+import com.recipes.recipes_backend.dto.request.RecipeFacetSearchRequest;
 import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
 import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.dto.response.PantryMatch;
+import com.recipes.recipes_backend.dto.response.RecipeBatch;
+import com.recipes.recipes_backend.dto.response.RecipePage;
+import com.recipes.recipes_backend.dto.response.RecipePayload;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
+import com.recipes.recipes_backend.dto.response.Suggestion;
+import com.recipes.recipes_backend.dto.response.SyncJobState;
+import com.recipes.recipes_backend.dto.response.SyncJobStatus;
 import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.exception.InvalidCursorException;
+import com.recipes.recipes_backend.exception.SyncJobNotFoundException;
+import com.recipes.recipes_backend.service.IngredientMatchService;
+import com.recipes.recipes_backend.service.RecipePayloadService;
 import com.recipes.recipes_backend.service.RecipeService;
+import com.recipes.recipes_backend.service.RecipeStreamService;
+import com.recipes.recipes_backend.service.SuggestionService;
+import com.recipes.recipes_backend.service.SyncJobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,10 +33,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -34,6 +59,36 @@ class RecipeControllerTest {
         public RecipeService recipeService() {
             return mock(RecipeService.class);
         }
+
+        @Bean
+        @Primary
+        public RecipeStreamService recipeStreamService() {
+            return mock(RecipeStreamService.class);
+        }
+
+        @Bean
+        @Primary
+        public SuggestionService suggestionService() {
+            return mock(SuggestionService.class);
+        }
+
+        @Bean
+        @Primary
+        public RecipePayloadService recipePayloadService() {
+            return mock(RecipePayloadService.class);
+        }
+
+        @Bean
+        @Primary
+        public SyncJobService syncJobService() {
+            return mock(SyncJobService.class);
+        }
+
+        @Bean
+        @Primary
+        public IngredientMatchService ingredientMatchService() {
+            return mock(IngredientMatchService.class);
+        }
     }
 
     @Autowired
@@ -42,6 +97,21 @@ class RecipeControllerTest {
     @Autowired
     private RecipeService recipeService;
 
+    @Autowired
+    private RecipeStreamService recipeStreamService;
+
+    @Autowired
+    private SuggestionService suggestionService;
+
+    @Autowired
+    private RecipePayloadService recipePayloadService;
+
+    @Autowired
+    private SyncJobService syncJobService;
+
+    @Autowired
+    private IngredientMatchService ingredientMatchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -58,13 +128,47 @@ class RecipeControllerTest {
     }
 
     @Test
-    void loadRecipes_ShouldReturnSuccess() throws Exception {
-        CustomResponse<String> response = CustomResponse.success("Recipe loading initiated successfully", "Success");
-        when(recipeService.loadRecipesFromExternalApi()).thenReturn(response);
+    void loadRecipes_ShouldStartJobAndPointToItsStatus() throws Exception {
+        SyncJobStatus job = SyncJobStatus.builder().jobId("job-1").state(SyncJobState.RUNNING).build();
+        when(syncJobService.start()).thenReturn(CustomResponse.success(job, "Recipe sync started"));
 
         mockMvc.perform(post("/api/recipes/load"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/recipes/load/job-1"))
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.state").value("RUNNING"));
+    }
+
+    @Test
+    void getLoadStatus_ShouldReturnProgress() throws Exception {
+        SyncJobStatus job = SyncJobStatus.builder().jobId("job-1").state(SyncJobState.SUCCEEDED)
+                .pagesFetched(2).recipesWritten(50).documentsIndexed(50).build();
+        when(syncJobService.status("job-1")).thenReturn(CustomResponse.success(job, "Recipe sync status retrieved successfully"));
+
+        mockMvc.perform(get("/api/recipes/load/job-1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(jsonPath("$.data.state").value("SUCCEEDED"))
+                .andExpect(jsonPath("$.data.pagesFetched").value(2))
+                .andExpect(jsonPath("$.data.documentsIndexed").value(50));
+    }
+
+    @Test
+    void getLoadStatus_UnknownJob_ShouldReturnNotFound() throws Exception {
+        when(syncJobService.status("nope")).thenThrow(new SyncJobNotFoundException("Recipe sync job not found with id: nope"));
+
+        mockMvc.perform(get("/api/recipes/load/nope"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void cancelLoad_ShouldRequestCancellation() throws Exception {
+        SyncJobStatus job = SyncJobStatus.builder().jobId("job-1").state(SyncJobState.RUNNING).cancelRequested(true).build();
+        when(syncJobService.cancel("job-1")).thenReturn(CustomResponse.success(job, "Recipe sync cancellation requested"));
+
+        mockMvc.perform(delete("/api/recipes/load/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.cancelRequested").value(true));
     }
 
     @Test
@@ -72,14 +176,134 @@ class RecipeControllerTest {
         RecipeSearchRequest request = new RecipeSearchRequest();
         request.setQuery("pasta");
 
-        CustomResponse<List<Recipe>> response = CustomResponse.success(Collections.singletonList(testRecipe), "Search completed successfully");
+        SearchPage<Recipe> page = new SearchPage<>(Collections.singletonList(testRecipe), 0, 20, 1, true, false);
+        CustomResponse<SearchPage<Recipe>> response = CustomResponse.success(page, "Search completed successfully");
         when(recipeService.searchRecipes(any(RecipeSearchRequest.class))).thenReturn(response);
 
         mockMvc.perform(post("/api/recipes/search")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.hits[0].name").value("Test Recipe"))
+                .andExpect(jsonPath("$.data.totalHitsExact").value(true));
+    }
+
+    @Test
+    void searchRecipes_PageSizeTooLarge_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/recipes/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"pasta\",\"size\":500}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.size").exists());
+    }
+
+    @Test
+    void searchRecipeFacets_ShouldReturnHitsAndFacetCounts() throws Exception {
+        FacetedSearchResult result = new FacetedSearchResult(1,
+                List.of(new RecipeSummary(1L, "Test Recipe", "Italian", null, 30)),
+                Map.of("Italian", 1L), Map.of("Dinner", 1L), Map.of("30-60", 1L));
+        when(recipeService.searchRecipeFacets(any(RecipeFacetSearchRequest.class)))
+                .thenReturn(CustomResponse.success(result, "Search completed successfully"));
+
+        mockMvc.perform(post("/api/recipes/search/facets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"query\":\"test\",\"tags\":[\"Dinner\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hits[0].name").value("Test Recipe"))
+                .andExpect(jsonPath("$.data.cuisines.Italian").value(1))
+                .andExpect(jsonPath("$.data.cookTimes['30-60']").value(1));
+    }
+
+    @Test
+    void suggestRecipes_ShouldReturnSuggestions() throws Exception {
+        List<Suggestion> suggestions = List.of(new Suggestion("Thai", "cuisine", 12), new Suggestion("Thai Green Curry", "name", 1));
+        when(suggestionService.suggest("tha", 10)).thenReturn(CustomResponse.success(suggestions, "Suggestions retrieved successfully"));
+
+        mockMvc.perform(get("/api/recipes/suggest").param("prefix", "tha"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].text").value("Thai"))
+                .andExpect(jsonPath("$.data[1].type").value("name"));
+    }
+
+    @Test
+    void whatCanICook_ShouldReturnMatches() throws Exception {
+        PantryMatch match = new PantryMatch(1L, "Test Recipe", 2, 3, List.of("Parmesan cheese"));
+        when(ingredientMatchService.match(List.of("garlic", "tomato"), 20))
+                .thenReturn(CustomResponse.success(List.of(match), "Matching recipes retrieved successfully"));
+
+        mockMvc.perform(post("/api/recipes/what-can-i-cook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ingredients\":[\"garlic\",\"tomato\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].matchedIngredients").value(2))
+                .andExpect(jsonPath("$.data[0].missingIngredients[0]").value("Parmesan cheese"));
+    }
+
+    @Test
+    void whatCanICook_NoIngredients_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/recipes/what-can-i-cook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ingredients\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.ingredients").exists());
+    }
+
+    @Test
+    void getRecipeById_ShouldWritePayloadWithETag() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(CustomResponse.success(testRecipe, "Recipe retrieved successfully"));
+        when(recipePayloadService.findById(1L)).thenReturn(new RecipePayload("W/\"abc\"", json, new byte[]{1, 2}));
+
+        mockMvc.perform(get("/api/recipes/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"abc\""))
+                .andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.data.name").value("Test Recipe"));
+
+        mockMvc.perform(get("/api/recipes/1").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"abc-gzip\""))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(content().bytes(new byte[]{1, 2}));
+    }
+
+    @Test
+    void getRecipeById_MatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        when(recipePayloadService.findById(1L)).thenReturn(new RecipePayload("W/\"abc\"", new byte[]{'{', '}'}, null));
+
+        mockMvc.perform(get("/api/recipes/1").header("If-None-Match", "W/\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"abc\""))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getRecipesByIds_ShouldReturnRecipesAndMissingIds() throws Exception {
+        RecipeBatch batch = RecipeBatch.builder()
+                .recipes(List.of(testRecipe))
+                .missingIds(List.of(42L))
+                .build();
+        when(recipeService.findAllById(List.of(42L, 1L))).thenReturn(CustomResponse.success(batch, "Recipes retrieved successfully"));
+
+        mockMvc.perform(post("/api/recipes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[42,1]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes[0].name").value("Test Recipe"))
+                .andExpect(jsonPath("$.data.missingIds[0]").value(42));
+    }
+
+    @Test
+    void getRecipesByIds_TooManyIds_ShouldReturnBadRequest() throws Exception {
+        RecipeBatchRequest request = new RecipeBatchRequest(
+                LongStream.rangeClosed(1, RecipeBatchRequest.MAX_IDS + 1).boxed().toList());
+
+        mockMvc.perform(post("/api/recipes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.ids").exists());
     }
 
     @Test
@@ -91,4 +315,47 @@ class RecipeControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true));
     }
+
+    @Test
+    void getRecipePage_ShouldReturnPageWithCursor() throws Exception {
+        RecipePage page = RecipePage.builder()
+                .recipes(List.of(testRecipe))
+                .size(1)
+                .hasMore(true)
+                .nextCursor("aWQ6MQ")
+                .build();
+        when(recipeService.findPage(null, 1)).thenReturn(CustomResponse.success(page, "Recipe page retrieved successfully"));
+
+        mockMvc.perform(get("/api/recipes/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value("aWQ6MQ"))
+                .andExpect(jsonPath("$.data.recipes[0].name").value("Test Recipe"));
+    }
+
+    @Test
+    void getRecipePage_InvalidCursor_ShouldReturnBadRequest() throws Exception {
+        when(recipeService.findPage("bogus", 20)).thenThrow(new InvalidCursorException("Invalid cursor: bogus"));
+
+        mockMvc.perform(get("/api/recipes/page").param("cursor", "bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void streamRecipes_ShouldWriteNdjson() throws Exception {
+        when(recipeStreamService.writeAll(any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/recipes/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
 }
@@ -0,0 +1,84 @@
+package com.recipes.recipes_backend.mapper;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.entity.Recipe;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeMapperTest {
+
+    private final RecipeMapper recipeMapper = new RecipeMapper();
+
+    @Test
+    void toEntity_ShouldCopyFieldsAndKeepExternalIdAsNaturalKey() {
+        ExternalRecipeDto dto = ExternalRecipeDto.builder()
+                .id(7L)
+                .name("Pasta Carbonara")
+                .cuisine("Italian")
+                .ingredients(new ArrayList<>(List.of("Spaghetti", "Eggs")))
+                .instructions(List.of("Boil pasta.", "Mix with eggs."))
+                .tags(List.of("Dinner"))
+                .cookTimeMinutes(20)
+                .image("https://example.com/carbonara.webp")
+                .build();
+
+        Recipe recipe = recipeMapper.toEntity(dto);
+
+        assertNull(recipe.getId());
+        assertEquals(7L, recipe.getExternalId());
+        assertEquals(recipeMapper.contentHash(dto), recipe.getContentHash());
+        assertEquals("Pasta Carbonara", recipe.getName());
+        assertEquals("Italian", recipe.getCuisine());
+        assertEquals(List.of("Spaghetti", "Eggs"), recipe.getIngredients());
+        assertEquals(List.of("Boil pasta.", "Mix with eggs."), recipe.getInstructions());
+        assertEquals(List.of("Dinner"), recipe.getTags());
+        assertEquals(20, recipe.getCookTimeMinutes());
+        assertEquals("https://example.com/carbonara.webp", recipe.getImage());
+
+        dto.getIngredients().add("Pecorino");
+        assertEquals(2, recipe.getIngredients().size());
+    }
+
+    @Test
+    void toEntity_MissingLists_ShouldBecomeEmptyMutableLists() {
+        Recipe recipe = recipeMapper.toEntity(ExternalRecipeDto.builder().name("Toast").build());
+
+        assertTrue(recipe.getIngredients().isEmpty());
+        recipe.getTags().add("Breakfast");
+        assertEquals(List.of("Breakfast"), recipe.getTags());
+    }
+
+    @Test
+    void contentHash_ShouldChangeOnlyWithPersistedContent() {
+        String hash = recipeMapper.contentHash(toast(1L, List.of("Breakfast", "Quick"), null));
+
+        assertEquals(64, hash.length());
+        assertEquals(hash, recipeMapper.contentHash(toast(2L, List.of("Breakfast", "Quick"), null)));
+        assertNotEquals(hash, recipeMapper.contentHash(toast(1L, List.of("Quick", "Breakfast"), null)));
+        assertNotEquals(hash, recipeMapper.contentHash(toast(1L, List.of("BreakfastQuick"), null)));
+        assertNotEquals(hash, recipeMapper.contentHash(toast(1L, List.of("Breakfast", "Quick"), 5)));
+    }
+
+    @Test
+    void updateEntity_ShouldReplaceContentButKeepIds() {
+        Recipe recipe = recipeMapper.toEntity(ExternalRecipeDto.builder().id(3L).name("Toast").tags(List.of("Quick")).build());
+        recipe.setId(10L);
+
+        ExternalRecipeDto changed = ExternalRecipeDto.builder().id(3L).name("French Toast").build();
+        recipeMapper.updateEntity(recipe, changed);
+
+        assertEquals(10L, recipe.getId());
+        assertEquals(3L, recipe.getExternalId());
+        assertEquals("French Toast", recipe.getName());
+        assertTrue(recipe.getTags().isEmpty());
+        assertEquals(recipeMapper.contentHash(changed), recipe.getContentHash());
+    }
+
+    private static ExternalRecipeDto toast(Long id, List<String> tags, Integer cookTimeMinutes) {
+        return ExternalRecipeDto.builder().id(id).name("Toast").tags(tags).cookTimeMinutes(cookTimeMinutes).build();
+    }
+}
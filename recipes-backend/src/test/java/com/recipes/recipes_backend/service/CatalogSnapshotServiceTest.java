@@ -0,0 +1,118 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotServiceTest {
+
+    @Mock
+    private SearchService searchService;
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.RECIPE_PAYLOADS);
+
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        catalogSnapshotService = new CatalogSnapshotService(searchService, cacheManager);
+    }
+
+    @Test
+    void rebuild_Disabled_ShouldNotLoadOrServe() {
+        catalogSnapshotService.rebuild();
+
+        assertFalse(catalogSnapshotService.isServing());
+        assertEquals(0, catalogSnapshotService.generation());
+        verifyNoInteractions(searchService);
+    }
+
+    @Test
+    void rebuild_ShouldBumpGenerationAndDropPayloadsOfThePreviousSnapshot() {
+        when(searchService.getAllRecipesWithInitializedCollections()).thenReturn(List.of(recipe(1)));
+        ReflectionTestUtils.setField(catalogSnapshotService, "enabled", true);
+        catalogSnapshotService.rebuild();
+        cacheManager.getCache(CacheConfig.RECIPE_PAYLOADS).put("payload", "built from generation 1");
+
+        catalogSnapshotService.rebuild();
+
+        assertEquals(2, catalogSnapshotService.generation());
+        assertNull(cacheManager.getCache(CacheConfig.RECIPE_PAYLOADS).get("payload"));
+    }
+
+    @Test
+    void findById_ShouldReturnEveryFieldOfTheLoadedRecipe() {
+        List<Recipe> recipes = new ArrayList<>(List.of(recipe(7), recipe(3), recipe(12)));
+        Recipe sparse = Recipe.builder().id(5L).name("Plain Rice").build();
+        recipes.add(sparse);
+        when(searchService.getAllRecipesWithInitializedCollections()).thenReturn(recipes);
+        ReflectionTestUtils.setField(catalogSnapshotService, "enabled", true);
+
+        catalogSnapshotService.rebuild();
+
+        assertTrue(catalogSnapshotService.isServing());
+        for (Recipe recipe : recipes) {
+            assertEquals(recipe, catalogSnapshotService.findById(recipe.getId()).orElseThrow());
+        }
+        assertTrue(catalogSnapshotService.findById(4L).isEmpty());
+        assertEquals(List.of(3L, 5L, 7L, 12L), catalogSnapshotService.findAll().stream().map(Recipe::getId).toList());
+    }
+
+    @Test
+    void rebuild_ShouldSwapInTheNewCatalogWithoutTouchingEarlierReads() {
+        when(searchService.getAllRecipesWithInitializedCollections())
+                .thenReturn(List.of(recipe(1), recipe(2)))
+                .thenReturn(List.of(recipe(1), recipe(2), recipe(3)));
+        ReflectionTestUtils.setField(catalogSnapshotService, "enabled", true);
+        catalogSnapshotService.rebuild();
+
+        List<Recipe> before = catalogSnapshotService.findAll();
+        assertThrows(UnsupportedOperationException.class, () -> before.get(0).getTags().clear());
+        catalogSnapshotService.rebuild();
+
+        assertEquals(2, before.size());
+        assertEquals(3, catalogSnapshotService.findAll().size());
+        assertEquals(recipe(1).getTags(), catalogSnapshotService.findById(1L).orElseThrow().getTags());
+    }
+
+    @Test
+    void findById_ShouldReturnDetachedRecipesOverPooledStrings() {
+        Recipe first = recipe(1);
+        Recipe second = recipe(2);
+        second.setCuisine(new String(first.getCuisine()));
+        when(searchService.getAllRecipesWithInitializedCollections()).thenReturn(List.of(first, second));
+        ReflectionTestUtils.setField(catalogSnapshotService, "enabled", true);
+        catalogSnapshotService.rebuild();
+
+        Recipe one = catalogSnapshotService.findById(1L).orElseThrow();
+        Recipe two = catalogSnapshotService.findById(2L).orElseThrow();
+        one.setName("Renamed");
+
+        assertSame(one.getCuisine(), two.getCuisine());
+        assertEquals(first.getName(), catalogSnapshotService.findById(1L).orElseThrow().getName());
+        assertEquals(first.getName(), catalogSnapshotService.findAll().get(0).getName());
+        assertThrows(UnsupportedOperationException.class, () -> catalogSnapshotService.findAll().remove(0));
+    }
+
+    private static Recipe recipe(int index) {
+        Recipe recipe = SyntheticRecipes.recipe(index);
+        recipe.setId((long) index);
+        recipe.setExternalId(index + 100L);
+        return recipe;
+    }
+}
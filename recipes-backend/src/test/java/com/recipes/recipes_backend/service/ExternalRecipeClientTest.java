@@ -1,6 +1,8 @@
 package com.recipes.recipes_backend.service;
 
 import com.recipes.recipes_backend.dto.response.ExternalRecipeResponse;
+import com.recipes.recipes_backend.exception.ExternalApiUnavailableException;
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,8 +12,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,8 +59,61 @@ class ExternalRecipeClientTest {
         assertTrue(response.getRecipes().isEmpty());
         assertEquals(0, response.getTotal());
     }
+    @Test
+    void fallbackGetRecipePage_ShouldFailThePageInsteadOfReturningAnEmptyOne() {
+        Exception testException = new RuntimeException("CircuitBreaker 'recipeService' is OPEN");
+
+        CompletableFuture<ExternalRecipeResponse> result = externalRecipeClient.fallbackGetRecipePage(50, 50, testException);
+
+        CompletionException failure = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(ExternalApiUnavailableException.class, failure.getCause());
+        assertSame(testException, failure.getCause().getCause());
+    }
+
     @Test
     void clearRecipeCache_ShouldLogCacheCleared() {
         assertDoesNotThrow(() -> externalRecipeClient.clearRecipeCache());
     }
+
+    @Test
+    void fetchAllRecipes_ConcurrentCalls_ShouldShareOneHttpRequest() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/recipes", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"recipes\":[{\"id\":1,\"name\":\"Pasta\"}],\"total\":1,\"skip\":0,\"limit\":1}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            ExternalRecipeClient client = new ExternalRecipeClient(WebClient.builder());
+            ReflectionTestUtils.setField(client, "apiUrl", "http://localhost:" + server.getAddress().getPort() + "/recipes");
+            ReflectionTestUtils.setField(client, "timeout", Duration.ofSeconds(5));
+            ReflectionTestUtils.setField(client, "maxRetryAttempts", 0);
+
+            List<CompletableFuture<ExternalRecipeResponse>> calls = IntStream.range(0, 16)
+                    .mapToObj(i -> client.fetchAllRecipes())
+                    .toList();
+
+            for (CompletableFuture<ExternalRecipeResponse> call : calls) {
+                assertEquals(1, call.get(5, TimeUnit.SECONDS).getRecipes().size());
+            }
+            assertEquals(1, requests.get());
+
+            client.fetchAllRecipes().get(5, TimeUnit.SECONDS);
+            assertEquals(2, requests.get(), "A completed request must not be reused");
+        } finally {
+            server.stop(0);
+        }
+    }
 }
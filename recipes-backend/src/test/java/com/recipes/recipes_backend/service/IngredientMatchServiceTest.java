@@ -0,0 +1,81 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.PantryMatch;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.repository.RecipeText;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientMatchServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @InjectMocks
+    private IngredientMatchService ingredientMatchService;
+
+    @BeforeEach
+    void setUp() {
+        when(recipeRepository.findAllNames()).thenReturn(List.of(
+                new RecipeText(1L, "Margherita Pizza"), new RecipeText(2L, "Tomato Omelette"), new RecipeText(3L, "Pesto Pasta")));
+        when(recipeRepository.findAllIngredients()).thenReturn(List.of(
+                new RecipeText(1L, "Pizza dough"), new RecipeText(1L, "Tomatoes"), new RecipeText(1L, "Fresh mozzarella"),
+                new RecipeText(1L, "Fresh basil leaves"),
+                new RecipeText(2L, "Eggs"), new RecipeText(2L, "Tomato"),
+                new RecipeText(3L, "Pasta"), new RecipeText(3L, "Fresh basil leaves"), new RecipeText(3L, "Pine nuts")));
+        ingredientMatchService.rebuildFromDatabase();
+    }
+
+    @Test
+    void match_ShouldRankByCoveredShareAndListMissingIngredients() {
+        List<PantryMatch> matches = ingredientMatchService.match(List.of("tomato", "egg", "Basil"), 10).getData();
+
+        assertEquals(List.of("Tomato Omelette", "Margherita Pizza", "Pesto Pasta"), names(matches));
+        assertEquals(2, matches.get(0).getMatchedIngredients());
+        assertTrue(matches.get(0).getMissingIngredients().isEmpty());
+        assertEquals(2, matches.get(1).getMatchedIngredients());
+        assertEquals(4, matches.get(1).getTotalIngredients());
+        assertEquals(List.of("Pizza dough", "Fresh mozzarella"), matches.get(1).getMissingIngredients());
+    }
+
+    @Test
+    void match_MultiWordItemShouldRequireAllWordsAndRespectLimit() {
+        assertEquals(List.of("Pesto Pasta"), names(ingredientMatchService.match(List.of("pine nut"), 10).getData()));
+        assertTrue(ingredientMatchService.match(List.of("pine cone"), 10).getData().isEmpty());
+        assertEquals(1, ingredientMatchService.match(List.of("basil"), 1).getData().size());
+    }
+
+    @Test
+    void onRecipesChanged_ShouldReplaceAndRemoveRecipesWithoutQueryingTheDatabase() {
+        Recipe shakshuka = Recipe.builder().id(2L).name("Shakshuka").ingredients(List.of("Eggs", "Tomatoes", "Cumin")).build();
+        Recipe toast = Recipe.builder().id(4L).name("Egg Toast").ingredients(List.of("Bread", "Eggs")).build();
+
+        ingredientMatchService.onRecipesChanged(new RecipesChangedEvent(List.of(shakshuka, toast), List.of(1L)));
+        assertEquals(List.of("Margherita Pizza"), names(ingredientMatchService.match(List.of("mozzarella"), 10).getData()));
+        ingredientMatchService.onRecipesSynced();
+
+        List<PantryMatch> matches = ingredientMatchService.match(List.of("egg", "tomato"), 10).getData();
+        assertEquals(List.of("Shakshuka", "Egg Toast"), names(matches));
+        assertEquals(List.of("Cumin"), matches.get(0).getMissingIngredients());
+        assertTrue(ingredientMatchService.match(List.of("mozzarella"), 10).getData().isEmpty());
+        verify(recipeRepository, times(1)).findAllIngredients();
+    }
+
+    private static List<String> names(List<PantryMatch> matches) {
+        return matches.stream()
+                .map(PantryMatch::getName)
+                .toList();
+    }
+}
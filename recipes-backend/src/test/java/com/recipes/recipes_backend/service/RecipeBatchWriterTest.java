@@ -0,0 +1,168 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.mapper.RecipeMapper;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.repository.TermDictionaries;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({RecipeBatchWriter.class, RecipeMapper.class, TermDictionaries.class})
+class RecipeBatchWriterTest {
+
+    private static final int RECIPES = 1_000;
+
+    /**
+     * With IDENTITY ids every recipe insert was its own round trip: this workload prepared 1,150
+     * statements (one per recipe plus the collection batches). Pooled sequence ids bring it to ~220.
+     */
+    private static final int MAX_STATEMENTS = RECIPES / 3;
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void writeAll_ShouldBatchInsertsAcrossAllTables() {
+        int written = recipeBatchWriter.writeAll(SyntheticRecipes.recipes(RECIPES));
+
+        long statements = statistics.getPrepareStatementCount();
+        assertEquals(RECIPES, written);
+        assertEquals(RECIPES, statistics.getEntityInsertCount());
+        assertTrue(statements <= MAX_STATEMENTS,
+                "Expected batched inserts, but " + statements + " statements were executed for " + RECIPES + " recipes");
+    }
+
+    @Test
+    void upsertAll_ShouldOnlyWriteNewAndChangedRecipes() {
+        List<ExternalRecipeDto> page = List.of(
+                SyntheticRecipes.externalRecipe(0), SyntheticRecipes.externalRecipe(1), SyntheticRecipes.externalRecipe(2));
+        assertEquals(new RecipeBatchWriter.UpsertResult(3, 0), recipeBatchWriter.upsertAll(page));
+
+        ExternalRecipeDto changed = SyntheticRecipes.externalRecipe(1);
+        changed.setName("Renamed");
+        changed.setTags(List.of("Brunch"));
+        statistics.clear();
+        RecipeBatchWriter.UpsertResult result = recipeBatchWriter.upsertAll(
+                List.of(page.get(0), changed, page.get(2), SyntheticRecipes.externalRecipe(3)));
+
+        assertEquals(new RecipeBatchWriter.UpsertResult(1, 1), result);
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        Recipe renamed = recipeRepository.findByExternalIdIn(List.of(2L)).get(0);
+        assertEquals("Renamed", renamed.getName());
+        assertEquals(List.of("Brunch"), List.copyOf(renamed.getTags()));
+        assertEquals(4, recipeRepository.count());
+    }
+
+    @Test
+    void removeAll_ShouldDeleteRecipesAndTheirCollections() {
+        recipeBatchWriter.upsertAll(List.of(SyntheticRecipes.externalRecipe(0), SyntheticRecipes.externalRecipe(1)));
+
+        assertEquals(1, recipeBatchWriter.removeAll(List.of(1L, 99L)));
+
+        assertEquals(List.of(2L), recipeRepository.findAllExternalIds());
+    }
+
+    @Test
+    void writeAll_ShouldStoreEachTagAndIngredientOnceAndShareLoadedValues() {
+        recipeBatchWriter.writeAll(SyntheticRecipes.recipes(100));
+        testEntityManager.clear();
+
+        List<Recipe> recipes = recipeRepository.findAll();
+        Recipe first = recipes.get(0);
+        Recipe sameTags = recipes.stream()
+                .filter(recipe -> recipe != first && recipe.getTags().get(0).equals(first.getTags().get(0)))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(8L, count("SELECT COUNT(*) FROM tags"));
+        assertEquals(14L, count("SELECT COUNT(*) FROM ingredients"));
+        assertEquals(200L, count("SELECT COUNT(*) FROM recipe_tags"));
+        assertSame(first.getTags().get(0), sameTags.getTags().get(0));
+        assertEquals(SyntheticRecipes.recipe(0).getIngredients(), List.copyOf(first.getIngredients()));
+    }
+
+    @Test
+    void persist_UnresolvedTag_ShouldFailInsteadOfInsertingFromTheConverter() {
+        Recipe recipe = SyntheticRecipes.recipe(0);
+        recipe.setTags(new ArrayList<>(List.of("Never Resolved")));
+
+        assertThrows(RuntimeException.class, () -> {
+            testEntityManager.persist(recipe);
+            testEntityManager.flush();
+        });
+        testEntityManager.clear();
+        assertEquals(0L, count("SELECT COUNT(*) FROM tags WHERE name = 'Never Resolved'"));
+    }
+
+    @Test
+    void joinTables_ShouldRejectIdsMissingFromTheDictionaries() {
+        recipeBatchWriter.writeAll(SyntheticRecipes.recipes(1));
+        Long recipeId = recipeRepository.findAll().get(0).getId();
+
+        assertThrows(PersistenceException.class, () -> testEntityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO recipe_tags (recipe_id, tag_id) VALUES (" + recipeId + ", -1)")
+                .executeUpdate());
+    }
+
+    @Test
+    void resolveAll_RolledBack_ShouldNotKeepTheNewIds() {
+        TermDictionaries termDictionaries = new TermDictionaries(dataSource);
+        Recipe recipe = SyntheticRecipes.recipe(0);
+        recipe.setTags(new ArrayList<>(List.of("Rolled Back")));
+        termDictionaries.resolveAll(List.of(recipe));
+        assertNotNull(termDictionaries.tags().id("Rolled Back"));
+
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        assertThrows(IllegalStateException.class, () -> termDictionaries.tags().id("Rolled Back"));
+        assertEquals(0, termDictionaries.tags().size());
+    }
+
+    private long count(String sql) {
+        return ((Number) testEntityManager.getEntityManager().createNativeQuery(sql).getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,150 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.dto.response.ExternalRecipeResponse;
+import com.recipes.recipes_backend.dto.response.SyncReport;
+import com.recipes.recipes_backend.event.RecipesSyncedEvent;
+import com.recipes.recipes_backend.exception.ExternalApiUnavailableException;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIngestionServiceTest {
+
+    @Mock
+    private ExternalRecipeClient externalRecipeClient;
+
+    @Mock
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RecipeIngestionService recipeIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recipeIngestionService, "pageSize", 2);
+    }
+
+    @Test
+    void synchronize_ShouldUpsertPagesUntilTotalIsReached() {
+        when(externalRecipeClient.fetchRecipePage(0, 2)).thenReturn(page(0, 3, dto(1L), dto(2L)));
+        when(externalRecipeClient.fetchRecipePage(2, 2)).thenReturn(page(2, 3, dto(3L)));
+        when(recipeBatchWriter.upsertAll(anyList()))
+                .thenReturn(new RecipeBatchWriter.UpsertResult(1, 1))
+                .thenReturn(new RecipeBatchWriter.UpsertResult(0, 0));
+        when(recipeRepository.findAllExternalIds()).thenReturn(List.of(1L, 2L, 3L));
+
+        SyncReport report = recipeIngestionService.synchronize(SyncProgress.NONE);
+
+        assertEquals(new SyncReport(3, 1, 1, 1, 0, true, null), report);
+        verify(recipeBatchWriter, times(2)).upsertAll(anyList());
+        verify(recipeBatchWriter, never()).removeAll(anyCollection());
+        verify(externalRecipeClient, never()).fetchRecipePage(4, 2);
+        verify(eventPublisher).publishEvent(new RecipesSyncedEvent(report));
+    }
+
+    @Test
+    void synchronize_ShouldRemoveRecipesNoLongerUpstream() {
+        when(externalRecipeClient.fetchRecipePage(0, 2)).thenReturn(page(0, 2, dto(1L), dto(3L)));
+        when(recipeBatchWriter.upsertAll(anyList())).thenReturn(new RecipeBatchWriter.UpsertResult(0, 0));
+        when(recipeRepository.findAllExternalIds()).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(recipeBatchWriter.removeAll(List.of(2L, 4L))).thenReturn(2);
+
+        SyncReport report = recipeIngestionService.synchronize(SyncProgress.NONE);
+
+        assertEquals(2, report.removed());
+        assertEquals(2, report.unchanged());
+    }
+
+    @Test
+    void synchronize_FailedPage_ShouldStopWithFailureAndNotRemoveAnything() {
+        when(externalRecipeClient.fetchRecipePage(0, 2)).thenReturn(page(0, 4, dto(1L), dto(2L)));
+        when(externalRecipeClient.fetchRecipePage(2, 2)).thenReturn(CompletableFuture.failedFuture(
+                new ExternalApiUnavailableException("External recipe API unavailable", new RuntimeException("timeout"))));
+        when(recipeBatchWriter.upsertAll(anyList())).thenReturn(new RecipeBatchWriter.UpsertResult(0, 0));
+
+        SyncReport report = recipeIngestionService.synchronize(SyncProgress.NONE);
+
+        assertFalse(report.complete());
+        assertEquals(2, report.fetched());
+        assertEquals("External recipe API unavailable", report.failure());
+        verify(eventPublisher).publishEvent(new RecipesSyncedEvent(report));
+        verifyNoInteractions(recipeRepository);
+        verify(recipeBatchWriter, never()).removeAll(anyCollection());
+    }
+
+    @Test
+    void synchronize_TotalChangedMidRun_ShouldNotRemoveRecipesShiftedOutOfView() {
+        // Recipe 2 is deleted upstream after the first page, so recipe 3 moves to an offset already read
+        when(externalRecipeClient.fetchRecipePage(0, 2)).thenReturn(page(0, 4, dto(1L), dto(2L)));
+        when(externalRecipeClient.fetchRecipePage(2, 2)).thenReturn(page(2, 3, dto(4L)));
+        when(recipeBatchWriter.upsertAll(anyList())).thenReturn(new RecipeBatchWriter.UpsertResult(0, 0));
+
+        SyncReport report = recipeIngestionService.synchronize(SyncProgress.NONE);
+
+        assertFalse(report.complete());
+        assertNull(report.failure());
+        assertEquals(3, report.fetched());
+        verifyNoInteractions(recipeRepository);
+        verify(recipeBatchWriter, never()).removeAll(anyCollection());
+        verify(eventPublisher).publishEvent(new RecipesSyncedEvent(report));
+    }
+
+    @Test
+    void synchronize_EmptyFirstPage_ShouldNotWriteOrRemove() {
+        ExternalRecipeResponse empty = new ExternalRecipeResponse(Collections.emptyList(), 0, 0, 2);
+        when(externalRecipeClient.fetchRecipePage(0, 2)).thenReturn(CompletableFuture.completedFuture(empty));
+
+        SyncReport report = recipeIngestionService.synchronize(SyncProgress.NONE);
+
+        assertEquals(new SyncReport(0, 0, 0, 0, 0, false, null), report);
+        verifyNoInteractions(recipeBatchWriter, recipeRepository);
+    }
+
+    @Test
+    void synchronize_Cancelled_ShouldStopAfterCurrentPageAndNotRemove() {
+        SyncProgress progress = mock(SyncProgress.class);
+        when(progress.isCancelled()).thenReturn(false, true);
+        when(externalRecipeClient.fetchRecipePage(0, 2)).thenReturn(page(0, 4, dto(1L), dto(2L)));
+        RecipeBatchWriter.UpsertResult result = new RecipeBatchWriter.UpsertResult(2, 0);
+        when(recipeBatchWriter.upsertAll(anyList())).thenReturn(result);
+
+        SyncReport report = recipeIngestionService.synchronize(progress);
+
+        assertFalse(report.complete());
+        assertEquals(2, report.inserted());
+        verify(progress).onPage(2, 4, result);
+        verify(externalRecipeClient, never()).fetchRecipePage(2, 2);
+        verifyNoInteractions(recipeRepository);
+    }
+
+    private static CompletableFuture<ExternalRecipeResponse> page(int skip, int total, ExternalRecipeDto... dtos) {
+        return CompletableFuture.completedFuture(new ExternalRecipeResponse(List.of(dtos), total, skip, dtos.length));
+    }
+
+    private static ExternalRecipeDto dto(Long id) {
+        return ExternalRecipeDto.builder().id(id).name("Recipe " + id).build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.recipes.recipes_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.RecipePayload;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import com.recipes.recipes_backend.exception.RecipeNotFoundException;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecipePayloadServiceTest {
+
+    @Mock
+    private RecipeService recipeService;
+
+    @Mock
+    private CatalogSnapshotService catalogSnapshotService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final CacheManager cacheManager =
+            new ConcurrentMapCacheManager(CacheConfig.RECIPE_PAYLOADS, CacheConfig.RECIPE_BY_ID);
+
+    private RecipePayloadService recipePayloadService;
+    private Recipe recipe;
+
+    @BeforeEach
+    void setUp() {
+        recipePayloadService = new RecipePayloadService(recipeService, catalogSnapshotService, objectMapper, cacheManager);
+        ReflectionTestUtils.setField(recipePayloadService, "gzipMinBytes", 256);
+        recipe = SyntheticRecipes.recipe(7);
+        recipe.setId(8L);
+    }
+
+    @Test
+    void findById_ShouldSerializeOnceAndServeCachedBytes() throws Exception {
+        when(recipeService.findById(8L)).thenReturn(CustomResponse.success(recipe, "Recipe retrieved successfully"));
+
+        RecipePayload first = recipePayloadService.findById(8L);
+        RecipePayload second = recipePayloadService.findById(8L);
+
+        assertSame(first, second);
+        verify(recipeService, times(1)).findById(8L);
+        assertEquals(recipe.getName(), objectMapper.readTree(first.json()).at("/data/name").asText());
+        assertTrue(first.etag().matches("W/\"[0-9a-f]{32}\""));
+        assertNotEquals(first.etag(true), first.etag(false));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertArrayEquals(first.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void findById_ConcurrentMisses_ShouldLoadOnce() throws Exception {
+        when(recipeService.findById(8L)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return CustomResponse.success(recipe, "Recipe retrieved successfully");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<RecipePayload>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return recipePayloadService.findById(8L);
+                }));
+            }
+            start.countDown();
+            RecipePayload first = futures.get(0).get();
+            for (Future<RecipePayload> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(recipeService, times(1)).findById(8L);
+    }
+
+    @Test
+    void findById_LoaderFailure_ShouldPropagateOriginalException() {
+        when(recipeService.findById(9L)).thenThrow(new RecipeNotFoundException("Recipe not found with id: 9"));
+
+        assertThrows(RecipeNotFoundException.class, () -> recipePayloadService.findById(9L));
+    }
+
+    @Test
+    void findById_SmallPayload_ShouldSkipGzip() {
+        ReflectionTestUtils.setField(recipePayloadService, "gzipMinBytes", 1 << 20);
+        when(recipeService.findById(8L)).thenReturn(CustomResponse.success(recipe, "Recipe retrieved successfully"));
+
+        assertNull(recipePayloadService.findById(8L).gzip());
+    }
+
+    @Test
+    void serialize_UnchangedRecipe_ShouldKeepEtagAcrossRebuilds() {
+        CustomResponse<Recipe> first = CustomResponse.success(recipe, "Recipe retrieved successfully");
+        CustomResponse<Recipe> rebuilt = CustomResponse.success(recipe, "Recipe retrieved successfully");
+        rebuilt.setTimestamp(first.getTimestamp().plusMinutes(30));
+
+        RecipePayload before = recipePayloadService.serialize(first);
+        RecipePayload after = recipePayloadService.serialize(rebuilt);
+
+        assertFalse(Arrays.equals(before.json(), after.json()));
+        assertEquals(before.etag(), after.etag());
+    }
+
+    @Test
+    void onRecipesChanged_ShouldEvictPayloadAndReserialize() {
+        when(recipeService.findById(8L)).thenReturn(CustomResponse.success(recipe, "Recipe retrieved successfully"));
+        RecipePayload before = recipePayloadService.findById(8L);
+
+        recipe.setName("Renamed");
+        recipePayloadService.onRecipesChanged(new RecipesChangedEvent(List.of(recipe)));
+        RecipePayload after = recipePayloadService.findById(8L);
+
+        verify(recipeService, times(2)).findById(8L);
+        assertNotEquals(before.etag(), after.etag());
+    }
+
+    @Test
+    void findById_ReadDuringSnapshotSync_ShouldServeTheNewSnapshotOncePublished() throws Exception {
+        Recipe renamed = SyntheticRecipes.recipe(7);
+        renamed.setId(8L);
+        renamed.setName("Renamed");
+        when(recipeService.findById(8L))
+                .thenReturn(CustomResponse.success(recipe, "Recipe retrieved successfully"))
+                .thenReturn(CustomResponse.success(renamed, "Recipe retrieved successfully"));
+
+        // The sync commits a page, then a read still finds the previous snapshot and caches it
+        recipePayloadService.onRecipesChanged(new RecipesChangedEvent(List.of(renamed)));
+        RecipePayload duringSync = recipePayloadService.findById(8L);
+        // The sync finishes and the new snapshot is published
+        when(catalogSnapshotService.generation()).thenReturn(1L);
+        RecipePayload afterSync = recipePayloadService.findById(8L);
+
+        assertEquals(recipe.getName(), objectMapper.readTree(duringSync.json()).at("/data/name").asText());
+        assertEquals("Renamed", objectMapper.readTree(afterSync.json()).at("/data/name").asText());
+        assertSame(afterSync, recipePayloadService.findById(8L));
+    }
+}
@@ -0,0 +1,135 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.RecipeBatch;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.exception.RecipeNotFoundException;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs {@link RecipeService} against the real Caffeine caches: concurrent misses for one id are
+ * collapsed into a single database load, and batch reads share entries with single reads.
+ */
+@SpringJUnitConfig({CacheConfig.class, RecipeService.class})
+class RecipeServiceCacheTest {
+
+    private static final int CALLERS = 16;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @MockitoBean
+    private RecipeRepository recipeRepository;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean(name = "catalogSnapshotService")
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.RECIPE_BY_ID).clear();
+    }
+
+    @Test
+    void findById_ConcurrentMisses_ShouldQueryDatabaseOncePerId() throws Exception {
+        when(searchService.findAllInOrder(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            List<Long> ids = invocation.getArgument(0);
+            return List.of(recipe(ids.get(0)));
+        });
+
+        List<CustomResponse<Recipe>> responses = callConcurrently(i -> recipeService.findById(1L + i % 2));
+
+        verify(searchService, times(1)).findAllInOrder(List.of(1L));
+        verify(searchService, times(1)).findAllInOrder(List.of(2L));
+        assertEquals(CALLERS, responses.size());
+        responses.forEach(response -> assertNotNull(response.getData()));
+    }
+
+    @Test
+    void findById_MissingRecipe_ShouldPropagateNotFoundAndNotCache() {
+        when(searchService.findAllInOrder(List.of(99L))).thenReturn(List.of());
+
+        assertThrows(RecipeNotFoundException.class, () -> recipeService.findById(99L));
+        assertThrows(RecipeNotFoundException.class, () -> recipeService.findById(99L));
+
+        verify(searchService, times(2)).findAllInOrder(List.of(99L));
+    }
+
+    @Test
+    void findAllById_ShouldServeCachedIdsAndLoadTheRestInOneBatch() {
+        when(searchService.findAllInOrder(List.of(1L))).thenReturn(List.of(recipe(1L)));
+        recipeService.findById(1L);
+        when(searchService.findAllInOrder(List.of(3L, 2L))).thenReturn(List.of(recipe(3L)));
+
+        RecipeBatch batch = recipeService.findAllById(List.of(3L, 1L, 2L, 3L)).getData();
+
+        assertEquals(List.of(3L, 1L), batch.getRecipes().stream().map(Recipe::getId).toList());
+        assertEquals(List.of(2L), batch.getMissingIds());
+        verify(searchService).findAllInOrder(List.of(3L, 2L));
+
+        // Loaded recipes are now cached for both batch and single reads
+        recipeService.findAllById(List.of(1L, 3L));
+        recipeService.findById(3L);
+        verify(searchService, times(2)).findAllInOrder(anyList());
+        verify(searchService, never()).findAllInOrder(List.of(3L));
+    }
+
+    private static Recipe recipe(long id) {
+        Recipe recipe = SyntheticRecipes.recipe((int) id);
+        recipe.setId(id);
+        return recipe;
+    }
+
+    private <T> List<T> callConcurrently(IntCall<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                int caller = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.apply(caller);
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntCall<T> {
+        T apply(int caller) throws Exception;
+    }
+}
@@ -2,8 +2,11 @@ package com.recipes.recipes_backend.service;
 
 import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
 import com.recipes.recipes_backend.dto.response.CustomResponse;
-import com.recipes.recipes_backend.dto.response.ExternalRecipeResponse;
+import com.recipes.recipes_backend.dto.response.RecipePage;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
 import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.exception.InvalidCursorException;
 import com.recipes.recipes_backend.exception.RecipeNotFoundException;
 import com.recipes.recipes_backend.repository.RecipeRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,14 +15,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,14 +32,11 @@ class RecipeServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
 
-    @Mock
-    private ExternalRecipeClient externalRecipeClient;
-
     @Mock
     private SearchService searchService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private CatalogSnapshotService catalogSnapshotService;
 
     @InjectMocks
     private RecipeService recipeService;
@@ -58,34 +59,59 @@ class RecipeServiceTest {
 
     @Test
     void findById_ExistingId_ReturnsCustomResponse() {
-        when(recipeRepository.findById(1L)).thenReturn(Optional.of(testRecipe));
+        when(searchService.findAllInOrder(List.of(1L))).thenReturn(List.of(testRecipe));
 
         CustomResponse<Recipe> result = recipeService.findById(1L);
 
         assertNotNull(result);
         assertTrue(result.isSuccess());
         assertEquals("Test Recipe", result.getData().getName());
-        verify(recipeRepository).findById(1L);
+        verify(searchService).findAllInOrder(List.of(1L));
     }
 
     @Test
     void findById_NonExistingId_ThrowsException() {
-        when(recipeRepository.findById(999L)).thenReturn(Optional.empty());
+        when(searchService.findAllInOrder(List.of(999L))).thenReturn(List.of());
+
+        assertThrows(RecipeNotFoundException.class, () -> recipeService.findById(999L));
+    }
+
+    @Test
+    void findById_SnapshotServing_ShouldNotQueryDatabase() {
+        when(catalogSnapshotService.isServing()).thenReturn(true);
+        when(catalogSnapshotService.findById(1L)).thenReturn(Optional.of(testRecipe));
+        when(catalogSnapshotService.findById(999L)).thenReturn(Optional.empty());
 
+        assertEquals("Test Recipe", recipeService.findById(1L).getData().getName());
         assertThrows(RecipeNotFoundException.class, () -> recipeService.findById(999L));
+        verifyNoInteractions(searchService, recipeRepository);
     }
 
     @Test
     void searchRecipes_ValidQuery_ReturnsCustomResponse() {
         List<Recipe> expectedRecipes = Collections.singletonList(testRecipe);
-        when(searchService.searchRecipes("pasta")).thenReturn(expectedRecipes);
+        when(searchService.searchRecipes(searchRequest))
+                .thenReturn(new SearchPage<>(expectedRecipes, 0, 20, 1, true, false));
 
-        CustomResponse<List<Recipe>> result = recipeService.searchRecipes(searchRequest);
+        CustomResponse<SearchPage<Recipe>> result = recipeService.searchRecipes(searchRequest);
 
         assertNotNull(result);
         assertTrue(result.isSuccess());
-        assertEquals(1, result.getData().size());
-        assertEquals("Test Recipe", result.getData().get(0).getName());
+        assertEquals(1, result.getData().getHits().size());
+        assertEquals("Test Recipe", result.getData().getHits().get(0).getName());
+    }
+
+    @Test
+    void searchRecipeSummaries_ValidQuery_ShouldNotLoadEntities() {
+        RecipeSummary summary = new RecipeSummary(1L, "Test Recipe", "Italian", null, 30);
+        when(searchService.searchRecipeSummaries(searchRequest))
+                .thenReturn(new SearchPage<>(List.of(summary), 0, 20, 1, true, false));
+
+        CustomResponse<SearchPage<RecipeSummary>> result = recipeService.searchRecipeSummaries(searchRequest);
+
+        assertEquals(List.of(summary), result.getData().getHits());
+        verify(searchService, never()).searchRecipes(any(RecipeSearchRequest.class));
+        verifyNoInteractions(recipeRepository);
     }
 
     @Test
@@ -102,18 +128,14 @@ class RecipeServiceTest {
     }
 
     @Test
-    void loadRecipesFromExternalApi_ShouldReturnSuccessMessage() {
-        ExternalRecipeResponse mockResponse = new ExternalRecipeResponse();
-        mockResponse.setRecipes(Collections.emptyList());
-        CompletableFuture<ExternalRecipeResponse> mockFuture = CompletableFuture.completedFuture(mockResponse);
-
-        when(externalRecipeClient.fetchAllRecipes()).thenReturn(mockFuture);
+    void findAll_SnapshotServing_ShouldReturnSnapshot() {
+        when(catalogSnapshotService.isServing()).thenReturn(true);
+        when(catalogSnapshotService.findAll()).thenReturn(List.of(testRecipe));
 
-        CustomResponse<String> result = recipeService.loadRecipesFromExternalApi();
+        CustomResponse<List<Recipe>> result = recipeService.findAll();
 
-        assertNotNull(result);
-        assertTrue(result.isSuccess());
-        assertEquals("Recipe loading initiated successfully", result.getData());
+        assertEquals(List.of(testRecipe), result.getData());
+        verifyNoInteractions(searchService);
     }
 
     @Test
@@ -121,8 +143,40 @@ class RecipeServiceTest {
         RecipeSearchRequest request = new RecipeSearchRequest();
         request.setQuery("   ");
 
-        CustomResponse<List<Recipe>> result = recipeService.searchRecipes(request);
+        CustomResponse<SearchPage<Recipe>> result = recipeService.searchRecipes(request);
+
+        assertTrue(result.getData().getHits().isEmpty());
+    }
+
+    @Test
+    void findPage_MoreResultsAvailable_ReturnsNextCursor() {
+        Recipe second = Recipe.builder().id(2L).name("Second Recipe").build();
+        when(recipeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(testRecipe, second));
+
+        CustomResponse<RecipePage> result = recipeService.findPage(null, 1);
+
+        RecipePage page = result.getData();
+        assertEquals(1, page.getSize());
+        assertTrue(page.isHasMore());
+        assertEquals("Test Recipe", page.getRecipes().get(0).getName());
+        assertEquals(1L, RecipeCursor.decode(page.getNextCursor()));
+        verify(recipeRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    @Test
+    void findPage_LastPage_ReturnsNoCursor() {
+        when(recipeRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Limit.class)))
+                .thenReturn(List.of());
+
+        CustomResponse<RecipePage> result = recipeService.findPage(RecipeCursor.encode(1L), 10);
 
-        assertTrue(result.getData().isEmpty());
+        assertFalse(result.getData().isHasMore());
+        assertNull(result.getData().getNextCursor());
+    }
+
+    @Test
+    void findPage_InvalidCursor_ThrowsException() {
+        assertThrows(InvalidCursorException.class, () -> recipeService.findPage("not-a-cursor", 10));
     }
 }
@@ -0,0 +1,61 @@
+package com.recipes.recipes_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipes.recipes_backend.dto.response.CustomResponse;
+import com.recipes.recipes_backend.dto.response.RecipePage;
+import com.recipes.recipes_backend.entity.Recipe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeStreamServiceTest {
+
+    @Mock
+    private RecipeService recipeService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RecipeStreamService recipeStreamService;
+
+    @BeforeEach
+    void setUp() {
+        recipeStreamService = new RecipeStreamService(recipeService, objectMapper);
+        ReflectionTestUtils.setField(recipeStreamService, "chunkSize", 1);
+    }
+
+    @Test
+    void writeAll_ShouldWriteOneJsonLinePerRecipeAcrossPages() throws Exception {
+        when(recipeService.findPage(null, 1)).thenReturn(page(Recipe.builder().id(1L).name("First").build(), "next"));
+        when(recipeService.findPage("next", 1)).thenReturn(page(Recipe.builder().id(2L).name("Second").build(), null));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = recipeStreamService.writeAll(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertEquals("First", objectMapper.readValue(lines[0], Recipe.class).getName());
+        assertEquals("Second", objectMapper.readValue(lines[1], Recipe.class).getName());
+    }
+
+    private static CustomResponse<RecipePage> page(Recipe recipe, String nextCursor) {
+        RecipePage page = RecipePage.builder()
+                .recipes(List.of(recipe))
+                .size(1)
+                .hasMore(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+        return CustomResponse.success(page, "Recipe page retrieved successfully");
+    }
+}
@@ -0,0 +1,37 @@
+package com.recipes.recipes_backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexInitializerTest {
+
+    @Mock
+    private SearchService searchService;
+
+    @InjectMocks
+    private SearchIndexInitializer searchIndexInitializer;
+
+    @Test
+    void verifyIndex_InSync_ShouldSkipReindex() {
+        when(searchService.isIndexInSync()).thenReturn(true);
+
+        searchIndexInitializer.verifyIndex();
+
+        verify(searchService, never()).indexAllRecipes();
+    }
+
+    @Test
+    void verifyIndex_OutOfSync_ShouldReindex() {
+        when(searchService.isIndexInSync()).thenReturn(false);
+
+        searchIndexInitializer.verifyIndex();
+
+        verify(searchService).indexAllRecipes();
+    }
+}
@@ -0,0 +1,122 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import jakarta.persistence.EntityManager;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the previous leading-wildcard predicate with the n-gram predicate used by {@link SearchService}.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchLatencyBenchmarkTest {
+
+    private static final int CATALOG_SIZE = 20_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 300;
+    private static final List<String> QUERIES = List.of("ian", "pasta", "curr", "tali", "moroc", "smoky");
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void loadCatalog() {
+        for (int from = 0; from < CATALOG_SIZE; from += 1_000) {
+            recipeBatchWriter.writeAll(SyntheticRecipes.recipes(from, 1_000));
+        }
+        searchService.indexAllRecipes();
+    }
+
+    @AfterAll
+    void clearCatalog() {
+        recipeRepository.deleteAllInBatch();
+        searchService.indexAllRecipes();
+    }
+
+    @Test
+    void ngramSearch_ShouldFindEverySubstringMatchOfWildcardSearch() {
+        for (String query : QUERIES) {
+            List<Long> wildcardHits = search(f -> wildcard(f, query));
+            List<Long> ngramHits = search(f -> SearchService.matchNameOrCuisine(f, query));
+
+            assertTrue(new HashSet<>(ngramHits).containsAll(wildcardHits), "Missing hits for query " + query);
+        }
+    }
+
+    @Test
+    void compareLatency() {
+        long[] wildcard = measure(query -> f -> wildcard(f, query));
+        long[] ngram = measure(query -> f -> SearchService.matchNameOrCuisine(f, query));
+
+        System.out.printf("Search latency over %d recipes (%d queries):%n", CATALOG_SIZE, MEASURED_ITERATIONS);
+        System.out.printf("  wildcard p50=%.3f ms p99=%.3f ms%n", percentile(wildcard, 50), percentile(wildcard, 99));
+        System.out.printf("  ngram    p50=%.3f ms p99=%.3f ms%n", percentile(ngram, 50), percentile(ngram, 99));
+    }
+
+    private long[] measure(Function<String, Function<SearchPredicateFactory, PredicateFinalStep>> predicate) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            search(predicate.apply(QUERIES.get(i % QUERIES.size())));
+        }
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            Function<SearchPredicateFactory, PredicateFinalStep> step = predicate.apply(QUERIES.get(i % QUERIES.size()));
+            long start = System.nanoTime();
+            search(step);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private List<Long> search(Function<SearchPredicateFactory, PredicateFinalStep> predicate) {
+        return transactionTemplate.execute(status -> Search.session(entityManager)
+                .search(Recipe.class)
+                .select(f -> f.id(Long.class))
+                .where(predicate::apply)
+                .fetchAllHits());
+    }
+
+    private static PredicateFinalStep wildcard(SearchPredicateFactory f, String query) {
+        return f.bool()
+                .should(f.wildcard().field("name").matching("*" + query.toLowerCase() + "*"))
+                .should(f.wildcard().field("cuisine").matching("*" + query.toLowerCase() + "*"));
+    }
+
+    private static double percentile(long[] sortedSamples, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
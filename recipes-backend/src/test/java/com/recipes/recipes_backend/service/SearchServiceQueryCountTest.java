@@ -0,0 +1,99 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.config.CacheConfig;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.repository.TermDictionaries;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@ImportAutoConfiguration(ObservationAutoConfiguration.class)
+@Import({SearchService.class, SearchIndexGeneration.class, CacheConfig.class, TermDictionaries.class})
+class SearchServiceQueryCountTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TermDictionaries termDictionaries;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllRecipesWithInitializedCollections_QueryCountShouldNotGrowWithResultSize() {
+        persist(0, 5);
+        long smallCatalogStatements = countStatementsForFindAll(5);
+
+        persist(5, 50);
+        long largeCatalogStatements = countStatementsForFindAll(50);
+
+        assertEquals(4, smallCatalogStatements);
+        assertEquals(smallCatalogStatements, largeCatalogStatements);
+    }
+
+    @Test
+    void findAllInOrder_ShouldFetchCollectionsInBoundedChunks() {
+        persist(0, 1_001);
+        List<Long> ids = searchService.getAllRecipesWithInitializedCollections().stream().map(Recipe::getId).toList();
+        testEntityManager.clear();
+        statistics.clear();
+
+        List<Recipe> recipes = searchService.findAllInOrder(ids);
+
+        assertEquals(ids, recipes.stream().map(Recipe::getId).toList());
+        assertTrue(recipes.stream().allMatch(recipe -> Hibernate.isInitialized(recipe.getTags())));
+        // One query for the recipes, then one per collection for each chunk of 1,000 ids
+        assertEquals(1 + 3 * 2, statistics.getPrepareStatementCount());
+    }
+
+    private long countStatementsForFindAll(int expectedSize) {
+        testEntityManager.clear();
+        statistics.clear();
+
+        List<Recipe> recipes = searchService.getAllRecipesWithInitializedCollections();
+
+        assertEquals(expectedSize, recipes.size());
+        recipes.forEach(recipe -> {
+            assertTrue(Hibernate.isInitialized(recipe.getIngredients()));
+            assertTrue(Hibernate.isInitialized(recipe.getInstructions()));
+            assertTrue(Hibernate.isInitialized(recipe.getTags()));
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persist(int from, int to) {
+        List<Recipe> recipes = SyntheticRecipes.recipes(from, to - from);
+        termDictionaries.resolveAll(recipes);
+        recipes.forEach(testEntityManager::persist);
+        testEntityManager.flush();
+    }
+}
@@ -0,0 +1,243 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.request.RecipeSearchRequest;
+import com.recipes.recipes_backend.dto.request.RecipeSearchSort;
+import com.recipes.recipes_backend.dto.response.FacetedSearchResult;
+import com.recipes.recipes_backend.dto.response.RecipeSummary;
+import com.recipes.recipes_backend.dto.response.SearchPage;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SearchServiceRankingTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        recipeBatchWriter.writeAll(List.of(
+                recipe("Antipasto Platter", "Italian"),
+                recipe("Pastry Cream Puffs", "French"),
+                recipe("Pasta Carbonara", "Italian"),
+                recipe("Chicken Tikka Masala", "Indian"),
+                recipe("Currywurst", "German"),
+                recipe("Thai Green Curry", "Thai")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void isIndexInSync_ShouldTrackIncrementalIndexing() {
+        assertTrue(searchService.isIndexInSync());
+    }
+
+    @Test
+    void searchRecipes_ExactWordShouldRankBeforePrefix() {
+        assertEquals(List.of("Thai Green Curry", "Currywurst"), names(search("curry")));
+    }
+
+    @Test
+    void searchRecipes_PrefixShouldRankBeforeSubstring() {
+        List<String> names = names(search("past"));
+
+        assertEquals(3, names.size());
+        assertTrue(names.subList(0, 2).containsAll(List.of("Pasta Carbonara", "Pastry Cream Puffs")));
+        assertEquals("Antipasto Platter", names.get(2));
+    }
+
+    @Test
+    void searchRecipes_ShouldMatchSubstringsOfCuisine() {
+        List<String> names = names(search("tali"));
+
+        assertEquals(2, names.size());
+        assertTrue(names.containsAll(List.of("Pasta Carbonara", "Antipasto Platter")));
+    }
+
+    @Test
+    void searchRecipes_CachedResultsShouldNotGoStaleAfterWrites() {
+        assertEquals(2, search("curry").size());
+        assertEquals(2, search("  CURRY ").size());
+
+        recipeBatchWriter.writeAll(List.of(recipe("Curry Laksa", "Malaysian")));
+
+        assertEquals(3, search("curry").size());
+    }
+
+    @Test
+    void searchRecipes_PagesShouldNotOverlapAndReportTotal() {
+        RecipeSearchRequest first = request("past");
+        first.setSize(2);
+        RecipeSearchRequest second = request("past");
+        second.setOffset(2);
+        second.setSize(2);
+
+        SearchPage<Recipe> firstPage = searchService.searchRecipes(first);
+        SearchPage<Recipe> secondPage = searchService.searchRecipes(second);
+
+        assertEquals(2, firstPage.getHits().size());
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of("Antipasto Platter"), names(secondPage.getHits()));
+        assertFalse(secondPage.isHasMore());
+        assertEquals(3, secondPage.getTotalHits());
+        assertTrue(secondPage.isTotalHitsExact());
+    }
+
+    @Test
+    void searchRecipes_ShouldSortByNameOrCookTime() {
+        recipeBatchWriter.writeAll(List.of(
+                recipe("Quick Egg Curry", "Indian", 12),
+                recipe("Massaman Curry", "Thai", 90)));
+
+        RecipeSearchRequest byName = request("curry");
+        byName.setSort(RecipeSearchSort.NAME);
+        RecipeSearchRequest byCookTimeDescending = request("curry");
+        byCookTimeDescending.setSort(RecipeSearchSort.COOK_TIME);
+        byCookTimeDescending.setDescending(true);
+
+        assertEquals(List.of("Currywurst", "Massaman Curry", "Quick Egg Curry", "Thai Green Curry"),
+                names(searchService.searchRecipes(byName).getHits()));
+        assertEquals("Massaman Curry", searchService.searchRecipeSummaries(byCookTimeDescending).getHits().get(0).name());
+        assertEquals("Quick Egg Curry", searchService.searchRecipeSummaries(byCookTimeDescending).getHits().get(3).name());
+    }
+
+    @Test
+    void searchRecipes_TotalShouldBeLowerBoundAboveThreshold() {
+        ReflectionTestUtils.setField(searchService, "totalHitCountThreshold", 1);
+        try {
+            RecipeSearchRequest request = request("past");
+            request.setSize(1);
+
+            SearchPage<RecipeSummary> page = searchService.searchRecipeSummaries(request);
+
+            assertEquals(1, page.getHits().size());
+            assertFalse(page.isTotalHitsExact());
+            assertTrue(page.getTotalHits() <= 3);
+            assertTrue(page.isHasMore());
+        } finally {
+            ReflectionTestUtils.setField(searchService, "totalHitCountThreshold", 1000);
+        }
+    }
+
+    @Test
+    void searchRecipeSummaries_ShouldProjectFromIndexWithoutJdbc() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<RecipeSummary> summaries = searchService.searchRecipeSummaries(request("curry")).getHits();
+
+        assertEquals(List.of("Thai Green Curry", "Currywurst"), summaries.stream().map(RecipeSummary::name).toList());
+        RecipeSummary top = summaries.get(0);
+        assertEquals("Thai", top.cuisine());
+        assertEquals(45, top.cookTimeMinutes());
+        assertEquals("https://example.com/thai-green-curry.webp", top.image());
+        assertNotNull(top.id());
+        assertEquals(0, statistics.getConnectCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchRecipeFacets_ShouldCountCuisinesTagsAndCookTimesAcrossAllHits() {
+        recipeBatchWriter.writeAll(List.of(
+                recipe("Red Lentil Curry", "Indian", 25, "Vegetarian", "Dinner"),
+                recipe("Quick Egg Curry", "Indian", 12, "Quick"),
+                recipe("Massaman Curry", "Thai", 90, "Dinner")));
+
+        FacetedSearchResult result = searchService.searchRecipeFacets("curry", null, List.of(), 2);
+
+        assertEquals(5, result.totalHits());
+        assertEquals(2, result.hits().size());
+        assertEquals(Map.of("Indian", 2L, "Thai", 2L, "German", 1L), result.cuisines());
+        assertEquals("Dinner", result.tags().keySet().iterator().next());
+        assertEquals(2L, result.tags().get("Dinner"));
+        assertEquals(List.of("0-15", "15-30", "30-60", "60+"), List.copyOf(result.cookTimes().keySet()));
+        assertEquals(List.of(1L, 1L, 2L, 1L), List.copyOf(result.cookTimes().values()));
+    }
+
+    @Test
+    void searchRecipeFacets_FiltersShouldNarrowHitsAndCounts() {
+        recipeBatchWriter.writeAll(List.of(
+                recipe("Red Lentil Curry", "Indian", 25, "Vegetarian", "Dinner"),
+                recipe("Quick Egg Curry", "Indian", 12, "Quick"),
+                recipe("Massaman Curry", "Thai", 90, "Dinner")));
+
+        FacetedSearchResult result = searchService.searchRecipeFacets("curry", "Indian", List.of("Dinner"), 10);
+
+        assertEquals(1, result.totalHits());
+        assertEquals("Red Lentil Curry", result.hits().get(0).name());
+        assertEquals(Map.of("Indian", 1L), result.cuisines());
+        assertEquals(Map.of("Vegetarian", 1L, "Dinner", 1L), result.tags());
+    }
+
+    @Test
+    void searchRecipeFacets_TagOrderShouldShareOneCacheEntry() {
+        recipeBatchWriter.writeAll(List.of(recipe("Red Lentil Curry", "Indian", 25, "Vegetarian", "Dinner")));
+
+        FacetedSearchResult first = searchService.searchRecipeFacets("curry", null, List.of("Vegetarian", "Dinner"), 10);
+        FacetedSearchResult reordered = searchService.searchRecipeFacets("curry", null, List.of("Dinner", "Vegetarian", "Dinner"), 10);
+
+        assertEquals(1, first.totalHits());
+        assertSame(first, reordered);
+    }
+
+    private List<Recipe> search(String query) {
+        return searchService.searchRecipes(request(query)).getHits();
+    }
+
+    private static RecipeSearchRequest request(String query) {
+        RecipeSearchRequest request = new RecipeSearchRequest();
+        request.setQuery(query);
+        return request;
+    }
+
+    private static List<String> names(List<Recipe> recipes) {
+        return recipes.stream()
+                .map(Recipe::getName)
+                .toList();
+    }
+
+    private static Recipe recipe(String name, String cuisine) {
+        return recipe(name, cuisine, 45);
+    }
+
+    private static Recipe recipe(String name, String cuisine, int cookTimeMinutes, String... tags) {
+        return Recipe.builder()
+                .name(name)
+                .cuisine(cuisine)
+                .ingredients(new ArrayList<>(List.of("Salt")))
+                .tags(new ArrayList<>(List.of(tags)))
+                .cookTimeMinutes(cookTimeMinutes)
+                .image("https://example.com/" + name.toLowerCase().replace(' ', '-') + ".webp")
+                .build();
+    }
+}
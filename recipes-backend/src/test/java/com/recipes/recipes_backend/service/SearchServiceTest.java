@@ -1,6 +1,7 @@
 package com.recipes.recipes_backend.service;
 
 import com.recipes.recipes_backend.entity.Recipe;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.persistence.EntityManager;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.session.SearchSession;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +30,12 @@ class SearchServiceTest {
     @Mock
     private MassIndexer massIndexer;
 
+    @Mock
+    private SearchIndexGeneration searchIndexGeneration;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
     @InjectMocks
     private SearchService searchService;
 
@@ -51,6 +59,12 @@ class SearchServiceTest {
 
             verify(searchSession).massIndexer(Recipe.class);
             verify(massIndexer).startAndWait();
+            verify(searchIndexGeneration).advance();
         }
     }
+
+    @Test
+    void normalize_ShouldTrimLowercaseAndCollapseWhitespace() {
+        assertEquals("thai green curry", SearchService.normalize("  Thai   GREEN\tCurry "));
+    }
 }
@@ -0,0 +1,99 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.Suggestion;
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.event.RecipesChangedEvent;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.repository.RecipeText;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @InjectMocks
+    private SuggestionService suggestionService;
+
+    @BeforeEach
+    void setUp() {
+        when(recipeRepository.findAllNames()).thenReturn(List.of(
+                new RecipeText(1L, "Thai Green Curry"), new RecipeText(2L, "Currywurst"), new RecipeText(3L, "Crème Brûlée")));
+        when(recipeRepository.findAllCuisines()).thenReturn(List.of(
+                new RecipeText(1L, "Thai"), new RecipeText(2L, "German"), new RecipeText(3L, "French")));
+        when(recipeRepository.findAllTags()).thenReturn(List.of(
+                new RecipeText(1L, "Curry"), new RecipeText(3L, "Dessert"), new RecipeText(2L, "Curry")));
+        suggestionService.rebuildFromDatabase();
+    }
+
+    @Test
+    void suggest_ShouldMatchAnyWordPrefixAndRankByRecipeCount() {
+        List<Suggestion> suggestions = suggestionService.suggest("cur", 10).getData();
+
+        assertEquals(List.of("Curry", "Currywurst", "Thai Green Curry"), texts(suggestions));
+        assertEquals(2, suggestions.get(0).getRecipeCount());
+        assertEquals("tag", suggestions.get(0).getType());
+    }
+
+    @Test
+    void suggest_ShouldFoldCaseAndAccentsAndRespectLimit() {
+        assertEquals(List.of("Crème Brûlée"), texts(suggestionService.suggest("  BRUL", 10).getData()));
+        assertEquals(1, suggestionService.suggest("cur", 1).getData().size());
+        assertTrue(suggestionService.suggest("xyz", 10).getData().isEmpty());
+    }
+
+    @Test
+    void suggest_ShortPrefix_ShouldServePrecomputedRanking() {
+        assertEquals(List.of("Curry", "Currywurst", "Crème Brûlée", "Thai Green Curry"),
+                texts(suggestionService.suggest("C", 10).getData()));
+        assertEquals(List.of("Curry", "Currywurst"), texts(suggestionService.suggest("c", 2).getData()));
+        assertEquals(List.of("Curry", "Currywurst", "Thai Green Curry"),
+                texts(suggestionService.suggest("cu", 10).getData()));
+        assertEquals(List.of("Crème Brûlée"), texts(suggestionService.suggest("Br", 10).getData()));
+        assertTrue(suggestionService.suggest("q", 10).getData().isEmpty());
+    }
+
+    @Test
+    void onRecipesChanged_ShouldAddNewTermsWithoutQueryingTheDatabase() {
+        Recipe laksa = Recipe.builder().id(4L).name("Curry Laksa").cuisine("Malaysian").tags(List.of("Curry")).build();
+
+        suggestionService.onRecipesChanged(new RecipesChangedEvent(List.of(laksa)));
+        assertEquals(List.of("Curry", "Currywurst", "Thai Green Curry"), texts(suggestionService.suggest("cur", 10).getData()));
+        suggestionService.onRecipesSynced();
+
+        List<Suggestion> suggestions = suggestionService.suggest("cur", 10).getData();
+        assertEquals(List.of("Curry", "Currywurst", "Curry Laksa", "Thai Green Curry"), texts(suggestions));
+        assertEquals(3, suggestions.get(0).getRecipeCount());
+        assertEquals(List.of("Malaysian"), texts(suggestionService.suggest("mal", 10).getData()));
+        verify(recipeRepository, times(1)).findAllNames();
+    }
+
+    @Test
+    void onRecipesChanged_ShouldSubtractTermsOfUpdatedAndRemovedRecipes() {
+        Recipe renamed = Recipe.builder().id(2L).name("Bratwurst").cuisine("German").tags(List.of("Grill")).build();
+
+        suggestionService.onRecipesChanged(new RecipesChangedEvent(List.of(renamed), List.of(1L)));
+        suggestionService.onRecipesSynced();
+
+        assertTrue(suggestionService.suggest("cur", 10).getData().isEmpty());
+        assertTrue(suggestionService.suggest("thai", 10).getData().isEmpty());
+        assertEquals(List.of("Bratwurst"), texts(suggestionService.suggest("brat", 10).getData()));
+        assertEquals(List.of("Grill"), texts(suggestionService.suggest("gri", 10).getData()));
+        verify(recipeRepository, times(1)).findAllNames();
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getText).toList();
+    }
+}
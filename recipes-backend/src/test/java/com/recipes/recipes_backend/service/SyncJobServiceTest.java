@@ -0,0 +1,164 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.dto.response.SyncJobState;
+import com.recipes.recipes_backend.dto.response.SyncJobStatus;
+import com.recipes.recipes_backend.dto.response.SyncReport;
+import com.recipes.recipes_backend.exception.SyncJobNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncJobServiceTest {
+
+    @Mock
+    private RecipeIngestionService recipeIngestionService;
+
+    private SyncJobService syncJobService;
+
+    @BeforeEach
+    void setUp() {
+        syncJobService = new SyncJobService(recipeIngestionService, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncJobService.destroy();
+    }
+
+    @Test
+    void start_WhileRunning_ShouldReturnRunningJobAndReportProgress() throws Exception {
+        CountDownLatch pageWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(recipeIngestionService.synchronize(any())).thenAnswer(invocation -> {
+            SyncProgress progress = invocation.getArgument(0);
+            progress.onPage(50, 120, new RecipeBatchWriter.UpsertResult(40, 5));
+            pageWritten.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new SyncReport(120, 40, 5, 75, 0, true, null);
+        });
+
+        SyncJobStatus started = syncJobService.start().getData();
+        assertTrue(pageWritten.await(5, TimeUnit.SECONDS));
+        SyncJobStatus again = syncJobService.start().getData();
+
+        assertEquals(started.getJobId(), again.getJobId());
+        assertEquals(SyncJobState.RUNNING, again.getState());
+        assertEquals(1, again.getPagesFetched());
+        assertEquals(120, again.getCatalogSize());
+        assertEquals(45, again.getRecipesWritten());
+        assertEquals(45, again.getDocumentsIndexed());
+
+        release.countDown();
+        SyncJobStatus finished = awaitFinished(started.getJobId());
+        assertEquals(SyncJobState.SUCCEEDED, finished.getState());
+        assertTrue(finished.isComplete());
+        assertNull(finished.getError());
+        assertNotNull(finished.getFinishedAt());
+        verify(recipeIngestionService, times(1)).synchronize(any());
+
+        assertNotEquals(started.getJobId(), syncJobService.start().getData().getJobId());
+    }
+
+    @Test
+    void cancel_ShouldStopRunningJob() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        when(recipeIngestionService.synchronize(any())).thenAnswer(invocation -> {
+            SyncProgress progress = invocation.getArgument(0);
+            running.countDown();
+            while (!progress.isCancelled()) {
+                Thread.sleep(5);
+            }
+            return new SyncReport(0, 0, 0, 0, 0, false, null);
+        });
+
+        String jobId = syncJobService.start().getData().getJobId();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        assertTrue(syncJobService.cancel(jobId).getData().isCancelRequested());
+        assertEquals(SyncJobState.CANCELLED, awaitFinished(jobId).getState());
+    }
+
+    @Test
+    void start_FailingSync_ShouldRecordError() throws Exception {
+        when(recipeIngestionService.synchronize(any())).thenThrow(new IllegalStateException("API down"));
+
+        String jobId = syncJobService.start().getData().getJobId();
+
+        SyncJobStatus finished = awaitFinished(jobId);
+        assertEquals(SyncJobState.FAILED, finished.getState());
+        assertEquals("API down", finished.getError());
+    }
+
+    @Test
+    void start_IncompleteSync_ShouldFailWithReason() throws Exception {
+        when(recipeIngestionService.synchronize(any()))
+                .thenReturn(new SyncReport(0, 0, 0, 0, 0, false, "External recipe API unavailable"));
+
+        String jobId = syncJobService.start().getData().getJobId();
+
+        SyncJobStatus finished = awaitFinished(jobId);
+        assertEquals(SyncJobState.FAILED, finished.getState());
+        assertFalse(finished.isComplete());
+        assertEquals("External recipe API unavailable", finished.getError());
+    }
+
+    @Test
+    void start_SyncThrowingError_ShouldFinishJobAndAllowNextSync() throws Exception {
+        when(recipeIngestionService.synchronize(any()))
+                .thenThrow(new OutOfMemoryError("Java heap space"))
+                .thenReturn(new SyncReport(0, 0, 0, 0, 0, true, null));
+
+        String jobId = syncJobService.start().getData().getJobId();
+
+        SyncJobStatus finished = awaitFinished(jobId);
+        assertEquals(SyncJobState.FAILED, finished.getState());
+        assertNotNull(finished.getError());
+        String nextJobId = syncJobService.start().getData().getJobId();
+        assertNotEquals(jobId, nextJobId);
+        assertEquals(SyncJobState.SUCCEEDED, awaitFinished(nextJobId).getState());
+    }
+
+    @Test
+    void start_VirtualThreadsEnabled_ShouldRunJobOnVirtualThread() throws Exception {
+        syncJobService.destroy();
+        syncJobService = new SyncJobService(recipeIngestionService, true);
+        AtomicBoolean virtual = new AtomicBoolean();
+        when(recipeIngestionService.synchronize(any())).thenAnswer(invocation -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            return new SyncReport(1, 1, 0, 0, 0, true, null);
+        });
+
+        String jobId = syncJobService.start().getData().getJobId();
+
+        assertEquals(SyncJobState.SUCCEEDED, awaitFinished(jobId).getState());
+        assertTrue(virtual.get());
+    }
+
+    @Test
+    void status_UnknownJob_ShouldThrow() {
+        assertThrows(SyncJobNotFoundException.class, () -> syncJobService.status("missing"));
+    }
+
+    private SyncJobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        SyncJobStatus status = syncJobService.status(jobId).getData();
+        while (status.getState() == SyncJobState.RUNNING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = syncJobService.status(jobId).getData();
+        }
+        return status;
+    }
+}
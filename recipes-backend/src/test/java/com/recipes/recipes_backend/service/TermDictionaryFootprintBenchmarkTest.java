@@ -0,0 +1,98 @@
+package com.recipes.recipes_backend.service;
+
+import com.recipes.recipes_backend.entity.Recipe;
+import com.recipes.recipes_backend.repository.RecipeRepository;
+import com.recipes.recipes_backend.support.SyntheticRecipes;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Heap and table footprint of recipe tags and ingredients stored through the tag and ingredient
+ * dictionaries, against the free-text rows {@code recipe_tags} and {@code recipe_ingredients} held
+ * before: one string copy per row in the table and per loaded recipe on the heap.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TermDictionaryFootprintBenchmarkTest {
+
+    private static final int CATALOG_SIZE = 20_000;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int INT_COLUMN = 4;
+
+    @Autowired
+    private RecipeBatchWriter recipeBatchWriter;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void loadCatalog() {
+        for (int from = 0; from < CATALOG_SIZE; from += 1_000) {
+            recipeBatchWriter.writeAll(SyntheticRecipes.recipes(from, 1_000));
+        }
+    }
+
+    @AfterAll
+    void clearCatalog() {
+        recipeRepository.deleteAllInBatch();
+        searchService.indexAllRecipes();
+    }
+
+    @Test
+    void compareHeapAndTableFootprint() {
+        List<Recipe> recipes = searchService.getAllRecipesWithInitializedCollections();
+        List<String> values = recipes.stream()
+                .flatMap(recipe -> Stream.concat(recipe.getTags().stream(), recipe.getIngredients().stream()))
+                .toList();
+        Set<String> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(values);
+
+        long copiedBytes = values.stream().mapToLong(value -> STRING_OVERHEAD + value.length()).sum();
+        long sharedBytes = instances.stream().mapToLong(value -> STRING_OVERHEAD + value.length()).sum();
+        long rows = count("recipe_tags") + count("recipe_ingredients");
+        long textBytes = textBytes("recipe_tags", "tags", "tag_id") + textBytes("recipe_ingredients", "ingredients", "ingredient_id");
+        long dictionaryBytes = jdbcTemplate.queryForObject(
+                "SELECT (SELECT SUM(LENGTH(name)) FROM tags) + (SELECT SUM(LENGTH(name)) FROM ingredients)", Long.class);
+
+        System.out.printf("Tags and ingredients of %d recipes (%d values):%n", recipes.size(), values.size());
+        System.out.printf("  heap  one copy per value  %,d bytes (%d bytes/recipe)%n", copiedBytes, copiedBytes / recipes.size());
+        System.out.printf("  heap  shared dictionary   %,d bytes in %d instances%n", sharedBytes, instances.size());
+        System.out.printf("  table free-text rows      %,d bytes of text%n", textBytes);
+        System.out.printf("  table int rows            %,d bytes of ids + %,d bytes of dictionary text%n",
+                rows * INT_COLUMN, dictionaryBytes);
+
+        assertEquals(CATALOG_SIZE, recipes.size());
+        assertTrue(instances.size() <= count("tags") + count("ingredients"));
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private long textBytes(String joinTable, String dictionary, String idColumn) {
+        return jdbcTemplate.queryForObject("SELECT SUM(LENGTH(d.name)) FROM " + joinTable + " j JOIN " + dictionary
+                + " d ON d.id = j." + idColumn, Long.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.recipes.recipes_backend.support;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load driver for the load tests: keeps a fixed number of requests in flight on
+ * virtual threads and records per-request latency.
+ */
+public final class HttpLoad {
+
+    private HttpLoad() {
+    }
+
+    public static Result fire(int concurrency, int requests, Supplier<HttpRequest> request) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures.add(clients.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request.get(), HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = System.nanoTime() - sent;
+                        if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else if (response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new Result(latencies, (System.nanoTime() - start) / 1e9, rejected.get(), failed.get());
+    }
+
+    public record Result(long[] latencies, double seconds, int rejected, int failed) {
+
+        public double throughput() {
+            return latencies.length / seconds;
+        }
+
+        public double percentile(int percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
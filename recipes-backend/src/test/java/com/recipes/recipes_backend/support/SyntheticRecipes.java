@@ -0,0 +1,90 @@
+package com.recipes.recipes_backend.support;
+
+import com.recipes.recipes_backend.dto.ExternalRecipeDto;
+import com.recipes.recipes_backend.entity.Recipe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic recipe generator for persistence tests and benchmarks.
+ */
+public final class SyntheticRecipes {
+
+    private static final String[] CUISINES = {
+            "Italian", "Indian", "Mexican", "Japanese", "Thai", "French", "Greek", "Korean", "Moroccan", "Brazilian"
+    };
+    private static final String[] DISHES = {
+            "Pasta", "Curry", "Tacos", "Ramen", "Salad", "Stew", "Pizza", "Risotto", "Dumplings", "Skewers"
+    };
+    private static final String[] STYLES = {
+            "Classic", "Spicy", "Creamy", "Smoky", "Crispy", "Garlic", "Lemon", "Herbed", "Roasted", "Sweet"
+    };
+    private static final String[] INGREDIENTS = {
+            "Olive oil", "Garlic", "Onion", "Tomato", "Chicken breast", "Basmati rice", "Fresh basil",
+            "Soy sauce", "Coconut milk", "Cumin", "Lime", "Parmesan cheese", "Butter", "Chili flakes"
+    };
+    private static final String[] TAGS = {
+            "Dinner", "Lunch", "Vegetarian", "Quick", "Spicy", "Comfort food", "Healthy", "Party"
+    };
+
+    private SyntheticRecipes() {
+    }
+
+    public static List<Recipe> recipes(int count) {
+        return recipes(0, count);
+    }
+
+    public static List<Recipe> recipes(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(SyntheticRecipes::recipe)
+                .toList();
+    }
+
+    public static Recipe recipe(int index) {
+        return Recipe.builder()
+                .name(name(index))
+                .cuisine(CUISINES[index % CUISINES.length])
+                .ingredients(pick(INGREDIENTS, index, 3))
+                .instructions(new ArrayList<>(List.of(
+                        "Prepare the ingredients for recipe " + index + ".",
+                        "Cook everything together until done.",
+                        "Serve warm.")))
+                .tags(pick(TAGS, index, 2))
+                .cookTimeMinutes(10 + (index * 7) % 80)
+                .image("https://example.com/recipes/" + index + ".webp")
+                .build();
+    }
+
+    /**
+     * The same recipe as {@link #recipe(int)}, shaped like a DummyJSON API payload.
+     */
+    public static ExternalRecipeDto externalRecipe(int index) {
+        Recipe recipe = recipe(index);
+        return ExternalRecipeDto.builder()
+                .id((long) index + 1)
+                .name(recipe.getName())
+                .cuisine(recipe.getCuisine())
+                .ingredients(recipe.getIngredients())
+                .instructions(recipe.getInstructions())
+                .tags(recipe.getTags())
+                .cookTimeMinutes(recipe.getCookTimeMinutes())
+                .image(recipe.getImage())
+                .build();
+    }
+
+    public static String name(int index) {
+        return STYLES[(index / DISHES.length) % STYLES.length] + " "
+                + CUISINES[index % CUISINES.length] + " "
+                + DISHES[index % DISHES.length] + " " + index;
+    }
+
+    private static List<String> pick(String[] source, int index, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(source[(index + i * 5) % source.length]);
+        }
+        return values;
+    }
+}